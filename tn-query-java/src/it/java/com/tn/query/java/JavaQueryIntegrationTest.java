@@ -836,6 +836,35 @@ class JavaQueryIntegrationTest
     assertFalse(this.queryParser.parse("booleanValue = false || (stringValue = X && intValue = 1)").test(target));
   }
 
+  @Test
+  void shouldNotMatchUnsatisfiable()
+  {
+    QueryParser<Predicate<Target>> queryParser = new DefaultQueryParser<>(
+      new JavaPredicateFactory<Target>(List.of(Getter.intValue("intValue", target -> target.intValue))),
+      List.of(Mapper.toInt("intValue"))
+    ).withOptimizer();
+
+    Predicate<Target> predicate = queryParser.parse("intValue < 3 && intValue > 10");
+
+    assertTrue(JavaPredicateFactory.isAlwaysFalse(predicate));
+    assertFalse(predicate.test(new Target()));
+  }
+
+  @Test
+  void shouldMatchManyOr()
+  {
+    Target target = new Target();
+    target.intValue = 4999;
+
+    StringBuilder query = new StringBuilder("intValue = 0");
+    for (int i = 1; i < 5000; i++) query.append(" || intValue = ").append(i);
+
+    assertTrue(this.queryParser.parse(query.toString()).test(target));
+
+    target.intValue = 5000;
+    assertFalse(this.queryParser.parse(query.toString()).test(target));
+  }
+
   static class Target
   {
     boolean booleanValue;
@@ -0,0 +1,104 @@
+package com.tn.query.java;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryParser;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ColumnarPredicateBenchmark
+{
+  private static final List<Getter<Target>> GETTERS = List.of(
+    Getter.primitiveInt("a", Target::a),
+    Getter.primitiveLong("b", Target::b),
+    Getter.primitiveDouble("c", Target::c)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("a"), Mapper.toLong("b"), Mapper.toDouble("c"));
+  private static final int SIZE = 100_000;
+
+  @Param({
+    "a > 10",
+    "a > 10 && b < 50 && c >= 25.5",
+    "a ∈ [1, 2, 3] || (b = 7 && c < 90.0)"
+  })
+  public String query;
+
+  private ColumnBatch batch;
+  private Target[] targets;
+  private Predicate<Target> lambdas;
+  private ColumnPredicate scalar;
+  private ColumnPredicate vector;
+
+  @Setup
+  public void setUp()
+  {
+    Random random = new Random(42);
+    int[] a = new int[SIZE];
+    long[] b = new long[SIZE];
+    double[] c = new double[SIZE];
+
+    this.targets = new Target[SIZE];
+    for (int i = 0; i < SIZE; i++)
+    {
+      this.targets[i] = new Target(random.nextInt(100), random.nextInt(100), random.nextDouble() * 100);
+      a[i] = this.targets[i].a();
+      b[i] = this.targets[i].b();
+      c[i] = this.targets[i].c();
+    }
+
+    this.batch = new ColumnBatch(SIZE).withColumn("a", a).withColumn("b", b).withColumn("c", c);
+    this.lambdas = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS).parse(this.query);
+    this.scalar = parser(new ColumnarPredicateFactory(false)).parse(this.query);
+    this.vector = parser(new ColumnarPredicateFactory(true)).parse(this.query);
+  }
+
+  @Benchmark
+  public int lambdas()
+  {
+    int count = 0;
+    for (Target target : this.targets) if (this.lambdas.test(target)) count++;
+
+    return count;
+  }
+
+  @Benchmark
+  public int scalar()
+  {
+    return this.scalar.evaluate(this.batch).cardinality();
+  }
+
+  @Benchmark
+  public int vector()
+  {
+    return this.vector.evaluate(this.batch).cardinality();
+  }
+
+  private static QueryParser<ColumnPredicate> parser(ColumnarPredicateFactory predicateFactory)
+  {
+    return new DefaultQueryParser<>(predicateFactory, MAPPERS);
+  }
+
+  private record Target(int a, long b, double c) {}
+}
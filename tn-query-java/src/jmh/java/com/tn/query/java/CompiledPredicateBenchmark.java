@@ -0,0 +1,102 @@
+package com.tn.query.java;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryParser;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CompiledPredicateBenchmark
+{
+  private static final List<Getter<Target>> GETTERS = List.of(
+    Getter.primitiveInt("a", target -> target.a),
+    Getter.primitiveInt("b", target -> target.b),
+    Getter.primitiveLong("c", target -> target.c),
+    Getter.comparableValue("d", target -> target.d)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("a"), Mapper.toInt("b"), Mapper.toLong("c"));
+  private static final int SIZE = 100_000;
+
+  @Param({
+    "a > 10 && b < 50",
+    "d ≈ *z && b > 50 && a < 5",
+    "(a > 10 && b < 50) || (c ∈ [1, 2, 3] && d = x) || (a < 5 && (b > 90 || c = 7))",
+    "((a > 10 && b < 50) || (c ∈ [1, 2, 3] && (d = x || d = y))) && (a != 3 && (b > 1 || (c < 90 && (a < 95 || d ≈ z*))))"
+  })
+  public String query;
+
+  private Target[] targets;
+  private Predicate<Target> adaptive;
+  private Predicate<Target> compiled;
+  private Predicate<Target> lambdas;
+
+  @Setup
+  public void setUp()
+  {
+    Random random = new Random(42);
+    String[] strings = {"x", "y", "z", "zz"};
+
+    this.targets = new Target[SIZE];
+    for (int i = 0; i < SIZE; i++)
+    {
+      this.targets[i] = new Target(random.nextInt(100), random.nextInt(100), random.nextInt(100), strings[random.nextInt(strings.length)]);
+    }
+
+    QueryParser<Predicate<Target>> adaptiveParser = new DefaultQueryParser<>(new AdaptivePredicateFactory<>(GETTERS), MAPPERS);
+    QueryParser<Predicate<Target>> compiledParser = new DefaultQueryParser<>(new CompiledPredicateFactory<>(GETTERS), MAPPERS);
+    QueryParser<Predicate<Target>> lambdaParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    this.adaptive = adaptiveParser.parse(this.query);
+    this.compiled = compiledParser.parse(this.query);
+    this.lambdas = lambdaParser.parse(this.query);
+  }
+
+  @Benchmark
+  public int adaptive()
+  {
+    return count(this.adaptive);
+  }
+
+  @Benchmark
+  public int compiled()
+  {
+    return count(this.compiled);
+  }
+
+  @Benchmark
+  public int lambdas()
+  {
+    return count(this.lambdas);
+  }
+
+  private int count(Predicate<Target> predicate)
+  {
+    int count = 0;
+    for (Target target : this.targets) if (predicate.test(target)) count++;
+
+    return count;
+  }
+
+  private record Target(int a, int b, long c, String d) {}
+}
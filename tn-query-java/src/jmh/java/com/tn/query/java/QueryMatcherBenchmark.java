@@ -0,0 +1,101 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryParser;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class QueryMatcherBenchmark
+{
+  private static final int EVENTS = 1024;
+  private static final List<Getter<Event>> GETTERS = List.of(
+    Getter.comparableValue("symbol", Event::symbol),
+    Getter.primitiveDouble("price", Event::price),
+    Getter.primitiveInt("quantity", Event::quantity)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toDouble("price"), Mapper.toInt("quantity"));
+  private static final int SUBSCRIPTIONS = 50_000;
+  private static final int SYMBOLS = 5_000;
+
+  private Event[] events;
+  private int next;
+  private QueryMatcher<Event> matcher;
+  private List<Predicate<Event>> predicates;
+  private List<String> subscriptionIds;
+
+  @Setup
+  public void setUp()
+  {
+    Random random = new Random(42);
+    QueryParser<Predicate<Event>> queryParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    this.matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    this.predicates = new ArrayList<>(SUBSCRIPTIONS);
+    this.subscriptionIds = new ArrayList<>(SUBSCRIPTIONS);
+
+    for (int i = 0; i < SUBSCRIPTIONS; i++)
+    {
+      double price = random.nextInt(1000);
+      String query = switch (i % 4)
+      {
+        case 0 -> "symbol = s" + random.nextInt(SYMBOLS) + " && price > " + price;
+        case 1 -> "symbol ∈ [s" + random.nextInt(SYMBOLS) + ", s" + random.nextInt(SYMBOLS) + "] && quantity >= " + random.nextInt(100);
+        case 2 -> "price >= " + price + " && price < " + (price + 1);
+        default -> "quantity > 98 || symbol = s" + random.nextInt(SYMBOLS);
+      };
+
+      this.matcher.register("q" + i, query);
+      this.predicates.add(queryParser.parse(query));
+      this.subscriptionIds.add("q" + i);
+    }
+
+    this.events = new Event[EVENTS];
+    for (int i = 0; i < EVENTS; i++) this.events[i] = new Event("s" + random.nextInt(SYMBOLS), random.nextInt(100_000) / 100.0, random.nextInt(100));
+  }
+
+  @Benchmark
+  public List<String> indexed()
+  {
+    return this.matcher.match(event());
+  }
+
+  @Benchmark
+  public List<String> scan()
+  {
+    Event event = event();
+    List<String> matched = new ArrayList<>();
+
+    for (int i = 0; i < this.predicates.size(); i++) if (this.predicates.get(i).test(event)) matched.add(this.subscriptionIds.get(i));
+
+    return matched;
+  }
+
+  private Event event()
+  {
+    return this.events[this.next++ & (EVENTS - 1)];
+  }
+
+  private record Event(String symbol, double price, int quantity) {}
+}
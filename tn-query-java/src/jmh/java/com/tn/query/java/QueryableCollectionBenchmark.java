@@ -0,0 +1,81 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryParser;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class QueryableCollectionBenchmark
+{
+  private static final List<Getter<Target>> GETTERS = List.of(
+    Getter.primitiveInt("id", Target::id),
+    Getter.comparableValue("code", Target::code),
+    Getter.primitiveInt("a", Target::a)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("id"), Mapper.toInt("a"));
+  private static final int SIZE = 1_000_000;
+
+  @Param({
+    "id = 500000",
+    "code = c42 && a > 50",
+    "id >= 1000 && id < 2000",
+    "code ∈ [c1, c2, c3] || id < 100"
+  })
+  public String query;
+
+  private QueryableCollection<Target> collection;
+  private Predicate<Target> predicate;
+  private List<Target> targets;
+
+  @Setup
+  public void setUp()
+  {
+    Random random = new Random(42);
+
+    this.targets = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) this.targets.add(new Target(i, "c" + random.nextInt(10_000), random.nextInt(100)));
+
+    this.collection = new QueryableCollection<>(GETTERS, MAPPERS).withHashIndex("code").withSortedIndex("id");
+    this.collection.addAll(this.targets);
+
+    QueryParser<Predicate<Target>> queryParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+    this.predicate = queryParser.parse(this.query);
+  }
+
+  @Benchmark
+  public List<Target> indexed()
+  {
+    return this.collection.findWhere(this.query);
+  }
+
+  @Benchmark
+  public List<Target> scan()
+  {
+    return this.targets.stream().filter(this.predicate).toList();
+  }
+
+  private record Target(int id, String code, int a) {}
+}
@@ -0,0 +1,128 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.tn.query.PredicateFactory;
+
+public class AdaptivePredicateFactory<T> implements PredicateFactory<Predicate<T>>
+{
+  private final JavaPredicateFactory<T> predicateFactory;
+
+  public AdaptivePredicateFactory(Collection<Getter<T>> getters)
+  {
+    this.predicateFactory = new JavaPredicateFactory<>(getters);
+  }
+
+  @Override
+  public Predicate<T> equal(String left, Object right)
+  {
+    return this.predicateFactory.equal(left, right);
+  }
+
+  @Override
+  public Predicate<T> notEqual(String left, Object right)
+  {
+    return this.predicateFactory.notEqual(left, right);
+  }
+
+  @Override
+  public Predicate<T> greaterThan(String left, Object right)
+  {
+    return this.predicateFactory.greaterThan(left, right);
+  }
+
+  @Override
+  public Predicate<T> greaterThanOrEqual(String left, Object right)
+  {
+    return this.predicateFactory.greaterThanOrEqual(left, right);
+  }
+
+  @Override
+  public Predicate<T> lessThan(String left, Object right)
+  {
+    return this.predicateFactory.lessThan(left, right);
+  }
+
+  @Override
+  public Predicate<T> lessThanOrEqual(String left, Object right)
+  {
+    return this.predicateFactory.lessThanOrEqual(left, right);
+  }
+
+  @Override
+  public Predicate<T> like(String left, Object right)
+  {
+    return this.predicateFactory.like(left, right);
+  }
+
+  @Override
+  public Predicate<T> notLike(String left, Object right)
+  {
+    return this.predicateFactory.notLike(left, right);
+  }
+
+  @Override
+  public Predicate<T> in(String left, List<?> right)
+  {
+    return this.predicateFactory.in(left, right);
+  }
+
+  @Override
+  public Predicate<T> and(Predicate<T> left, Predicate<T> right)
+  {
+    return group(true, List.of(left, right));
+  }
+
+  @Override
+  public Predicate<T> or(Predicate<T> left, Predicate<T> right)
+  {
+    return group(false, List.of(left, right));
+  }
+
+  @Override
+  public Predicate<T> and(List<Predicate<T>> predicates)
+  {
+    return group(true, predicates);
+  }
+
+  @Override
+  public Predicate<T> or(List<Predicate<T>> predicates)
+  {
+    return group(false, predicates);
+  }
+
+  @Override
+  public Predicate<T> constant(boolean value)
+  {
+    return this.predicateFactory.constant(value);
+  }
+
+  @Override
+  public Predicate<T> parenthesis(Predicate<T> node)
+  {
+    //Parenthesis is handled implicitly when parsing queries.
+    return node;
+  }
+
+  @Override
+  public boolean isReusable()
+  {
+    return true;
+  }
+
+  private Predicate<T> group(boolean and, List<Predicate<T>> predicates)
+  {
+    //Nested groups of the same operator are flattened, so all their operands can be re-ordered together.
+    List<Predicate<T>> operands = new ArrayList<>(predicates.size());
+    for (Predicate<T> predicate : predicates)
+    {
+      if (predicate instanceof AdaptivePredicateGroup && ((AdaptivePredicateGroup<T>)predicate).isAnd() == and) operands.addAll(((AdaptivePredicateGroup<T>)predicate).operands());
+      else operands.add(predicate);
+    }
+
+    return new AdaptivePredicateGroup<>(and, operands);
+  }
+}
@@ -0,0 +1,187 @@
+package com.tn.query.java;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+final class AdaptivePredicateGroup<T> implements Predicate<T>
+{
+  //Statistics are halved each time the operands are re-ordered, so the order follows changes in the data being tested.
+  private static final int DECAY = 2;
+  //While re-ordering leaves the order unchanged, sampling slows down to this, one test in 4096.
+  private static final int MAX_SAMPLE_MASK = 4095;
+  //Sampling starts at one test in 64.
+  private static final int MIN_SAMPLE_MASK = 63;
+  //Operands are re-ordered each time this many more samples have been taken since the statistics were last halved.
+  private static final int REORDER_SAMPLES = 256;
+
+  private final boolean and;
+  private final AtomicLongArray failures;
+  private final AtomicLongArray nanos;
+  private final Predicate<T>[] operands;
+  private final AtomicLongArray passes;
+  private final AtomicLong samples;
+
+  //The order is replaced rather than updated, so a test always sees a complete order without any locking.
+  private volatile Order<T> order;
+
+  @SuppressWarnings("unchecked")
+  AdaptivePredicateGroup(boolean and, List<Predicate<T>> operands)
+  {
+    this.and = and;
+    this.operands = operands.toArray(new Predicate[0]);
+    this.failures = new AtomicLongArray(this.operands.length);
+    this.nanos = new AtomicLongArray(this.operands.length);
+    this.passes = new AtomicLongArray(this.operands.length);
+    this.samples = new AtomicLong();
+    this.order = new Order<>(this.operands, IntStream.range(0, this.operands.length).toArray(), MIN_SAMPLE_MASK);
+  }
+
+  boolean isAnd()
+  {
+    return this.and;
+  }
+
+  List<Predicate<T>> operands()
+  {
+    return List.of(this.order.operands());
+  }
+
+  @Override
+  public boolean test(T target)
+  {
+    Order<T> order = this.order;
+
+    //Sampled tests evaluate and time every operand, so each pass rate is measured independently of the order.
+    if ((ThreadLocalRandom.current().nextInt() & order.sampleMask()) == 0) return sample(target);
+
+    Predicate<T>[] operands = order.operands();
+    int i = 0;
+
+    try
+    {
+      for (; i < operands.length; i++)
+      {
+        if (operands[i].test(target) != this.and) return !this.and;
+      }
+
+      return this.and;
+    }
+    catch (RuntimeException e)
+    {
+      //An operand may only fail for targets an earlier operand in the query would have excluded, so the query's own order decides the result.
+      fail(order.indexes()[i]);
+      return evaluate(target);
+    }
+  }
+
+  private boolean evaluate(T target)
+  {
+    for (Predicate<T> operand : this.operands)
+    {
+      if (operand.test(target) != this.and) return !this.and;
+    }
+
+    return this.and;
+  }
+
+  private boolean sample(T target)
+  {
+    boolean[] results = new boolean[this.operands.length];
+    RuntimeException[] failures = new RuntimeException[this.operands.length];
+
+    for (int i = 0; i < this.operands.length; i++)
+    {
+      long start = System.nanoTime();
+
+      try
+      {
+        results[i] = this.operands[i].test(target);
+      }
+      catch (RuntimeException e)
+      {
+        failures[i] = e;
+      }
+
+      this.nanos.addAndGet(i, System.nanoTime() - start);
+      if (results[i]) this.passes.incrementAndGet(i);
+    }
+
+    for (int i = 0; i < this.operands.length; i++) if (failures[i] != null) fail(i);
+
+    //Other threads can take samples between the increment and the re-order, so the count is claimed by halving it and only the thread that claims it re-orders.
+    long samples = this.samples.incrementAndGet();
+    if (samples >= REORDER_SAMPLES && this.samples.compareAndSet(samples, samples / DECAY))
+    {
+      reorder(samples);
+      decay();
+    }
+
+    for (int i = 0; i < this.operands.length; i++)
+    {
+      if (failures[i] != null) throw failures[i];
+      if (results[i] != this.and) return !this.and;
+    }
+
+    return this.and;
+  }
+
+  private void fail(int operand)
+  {
+    if (this.failures.getAndIncrement(operand) == 0) reorder(this.samples.get());
+  }
+
+  private void reorder(long sampleCount)
+  {
+    double[] ranks = new double[this.operands.length];
+    long samples = Math.max(1, sampleCount);
+
+    for (int i = 0; i < this.operands.length; i++)
+    {
+      //Operands that have failed stay after every operand that precedes them in the query, in case those operands guard against the failure.
+      if (this.failures.get(i) > 0)
+      {
+        ranks[i] = Double.POSITIVE_INFINITY;
+        continue;
+      }
+
+      double cost = Math.max(1, this.nanos.get(i)) / (double)samples;
+      double passRate = (this.passes.get(i) + 1.0) / (samples + 2.0);
+
+      //The cheapest operands most likely to decide the result go first: those that fail an && or pass an ||.
+      ranks[i] = cost / (this.and ? 1 - passRate : passRate);
+    }
+
+    //The sort is stable, so operands of equal rank keep the order of the query.
+    int[] indexes = IntStream.range(0, this.operands.length).boxed()
+      .sorted(Comparator.comparingDouble(i -> ranks[i]))
+      .mapToInt(Integer::intValue)
+      .toArray();
+
+    Order<T> current = this.order;
+    int sampleMask = Arrays.equals(indexes, current.indexes()) ? Math.min(current.sampleMask() << 1 | 1, MAX_SAMPLE_MASK) : MIN_SAMPLE_MASK;
+
+    @SuppressWarnings("unchecked")
+    Predicate<T>[] operands = new Predicate[indexes.length];
+    for (int i = 0; i < indexes.length; i++) operands[i] = this.operands[indexes[i]];
+
+    this.order = new Order<>(operands, indexes, sampleMask);
+  }
+
+  private void decay()
+  {
+    //The sample count was halved when the re-order was claimed, samples taken by other threads since may be halved or not, the statistics only need to be approximate.
+    for (int i = 0; i < this.operands.length; i++)
+    {
+      this.nanos.getAndUpdate(i, value -> value / DECAY);
+      this.passes.getAndUpdate(i, value -> value / DECAY);
+    }
+  }
+
+  private record Order<T>(Predicate<T>[] operands, int[] indexes, int sampleMask) {}
+}
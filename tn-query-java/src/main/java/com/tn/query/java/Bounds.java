@@ -0,0 +1,33 @@
+package com.tn.query.java;
+
+record Bounds(String name, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive)
+{
+  Bounds intersect(Bounds other)
+  {
+    //A missing lower bound is below every value and a missing upper bound above every value, the tighter of each bound is kept.
+    int lower = this.lower == null ? -1 : other.lower == null ? 1 : compare(this.lower, other.lower);
+    int upper = this.upper == null ? 1 : other.upper == null ? -1 : compare(this.upper, other.upper);
+
+    return new Bounds(
+      this.name,
+      lower >= 0 ? this.lower : other.lower,
+      lower > 0 ? this.lowerInclusive : lower < 0 ? other.lowerInclusive : this.lowerInclusive && other.lowerInclusive,
+      upper <= 0 ? this.upper : other.upper,
+      upper < 0 ? this.upperInclusive : upper > 0 ? other.upperInclusive : this.upperInclusive && other.upperInclusive
+    );
+  }
+
+  boolean isEmpty()
+  {
+    if (this.lower == null || this.upper == null) return false;
+
+    int comparison = compare(this.lower, this.upper);
+    return comparison > 0 || (comparison == 0 && !(this.lowerInclusive && this.upperInclusive));
+  }
+
+  @SuppressWarnings("unchecked")
+  static int compare(Object left, Object right)
+  {
+    return ((Comparable<Object>)left).compareTo(right);
+  }
+}
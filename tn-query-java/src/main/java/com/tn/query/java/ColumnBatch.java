@@ -0,0 +1,64 @@
+package com.tn.query.java;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import com.tn.query.QueryException;
+
+public class ColumnBatch
+{
+  private final Map<String, Object> columns;
+  private final int size;
+
+  public ColumnBatch(int size)
+  {
+    if (size < 0) throw new IllegalArgumentException("Size must not be negative: " + size);
+
+    this.size = size;
+    this.columns = new HashMap<>();
+  }
+
+  public ColumnBatch withColumn(@Nonnull String name, @Nonnull int[] values)
+  {
+    return column(name, values);
+  }
+
+  public ColumnBatch withColumn(@Nonnull String name, @Nonnull long[] values)
+  {
+    return column(name, values);
+  }
+
+  public ColumnBatch withColumn(@Nonnull String name, @Nonnull double[] values)
+  {
+    return column(name, values);
+  }
+
+  public ColumnBatch withColumn(@Nonnull String name, @Nonnull Object[] values)
+  {
+    return column(name, values);
+  }
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  Object column(String name)
+  {
+    Object column = this.columns.get(name);
+    if (column == null) throw new QueryException("Column missing for: " + name);
+
+    return column;
+  }
+
+  private ColumnBatch column(String name, Object values)
+  {
+    //Columns may be longer than the batch, so callers can reuse buffers, but never shorter.
+    if (Array.getLength(values) < this.size) throw new IllegalArgumentException("Column " + name + " has fewer than " + this.size + " values");
+
+    this.columns.put(name, values);
+    return this;
+  }
+}
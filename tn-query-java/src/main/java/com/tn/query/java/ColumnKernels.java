@@ -0,0 +1,201 @@
+package com.tn.query.java;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.tn.query.QueryException;
+
+final class ColumnKernels
+{
+  private static final long ALL = -1L;
+  private static final int WORD_SHIFT = 6;
+  private static final int WORD_SIZE = 64;
+
+  private ColumnKernels() {}
+
+  static long[] none(int size)
+  {
+    return new long[(size + WORD_SIZE - 1) >>> WORD_SHIFT];
+  }
+
+  static long[] all(int size)
+  {
+    return negate(none(size), size);
+  }
+
+  static long[] negate(long[] words, int size)
+  {
+    for (int i = 0; i < words.length; i++) words[i] = ~words[i];
+    if (size % WORD_SIZE != 0) words[words.length - 1] &= ALL >>> (WORD_SIZE - size % WORD_SIZE);
+
+    return words;
+  }
+
+  //The comparison kernels set a row's bit when comparing its value with the given value gives a result between min and max, where -1 is less, 0 is equal and 1 is greater.
+
+  static long[] compare(int[] values, int size, int value, int min, int max)
+  {
+    long[] words = none(size);
+
+    for (int word = 0, start = 0; start < size; word++, start += WORD_SIZE)
+    {
+      int end = Math.min(start + WORD_SIZE, size);
+      long bits = 0;
+
+      for (int i = start; i < end; i++)
+      {
+        int comparison = Integer.compare(values[i], value);
+        bits |= (comparison >= min && comparison <= max ? 1L : 0L) << (i - start);
+      }
+
+      words[word] = bits;
+    }
+
+    return words;
+  }
+
+  static long[] compare(long[] values, int size, long value, int min, int max)
+  {
+    long[] words = none(size);
+
+    for (int word = 0, start = 0; start < size; word++, start += WORD_SIZE)
+    {
+      int end = Math.min(start + WORD_SIZE, size);
+      long bits = 0;
+
+      for (int i = start; i < end; i++)
+      {
+        int comparison = Long.compare(values[i], value);
+        bits |= (comparison >= min && comparison <= max ? 1L : 0L) << (i - start);
+      }
+
+      words[word] = bits;
+    }
+
+    return words;
+  }
+
+  static long[] compare(double[] values, int size, double value, int min, int max)
+  {
+    long[] words = none(size);
+
+    for (int word = 0, start = 0; start < size; word++, start += WORD_SIZE)
+    {
+      int end = Math.min(start + WORD_SIZE, size);
+      long bits = 0;
+
+      for (int i = start; i < end; i++)
+      {
+        //Double.compare rather than the primitive operators, so NaN and -0.0 behave as they do for Double.
+        int comparison = Double.compare(values[i], value);
+        bits |= (comparison >= min && comparison <= max ? 1L : 0L) << (i - start);
+      }
+
+      words[word] = bits;
+    }
+
+    return words;
+  }
+
+  static long[] compare(Object[] values, int size, Object value, int min, int max)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      int comparison = Integer.signum(compare(values[i], value));
+      if (comparison >= min && comparison <= max) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] equal(Object[] values, int size, Object value)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (Objects.equals(values[i], value)) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(int[] values, int size, LongHashSet set)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (set.contains(values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(long[] values, int size, LongHashSet set)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (set.contains(values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(double[] values, int size, LongHashSet set)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (set.contains(Double.doubleToLongBits(values[i]))) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(Object[] values, int size, Set<?> set)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (set.contains(values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] like(Object[] values, int size, Predicate<String> matcher)
+  {
+    long[] words = none(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      if (!(values[i] instanceof String)) throw new QueryException("Like comparisons only work for string values, received: " + values[i]);
+      if (matcher.test((String)values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object left, Object right)
+  {
+    if (!(left instanceof Comparable)) throw new QueryException("Cannot compare: " + left);
+
+    try
+    {
+      return ((Comparable<Object>)left).compareTo(right);
+    }
+    catch (ClassCastException e)
+    {
+      throw new QueryException("Type mismatch: " + left + " and " + right);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.tn.query.java;
+
+import java.util.BitSet;
+
+@FunctionalInterface
+public interface ColumnPredicate
+{
+  BitSet evaluate(ColumnBatch batch);
+}
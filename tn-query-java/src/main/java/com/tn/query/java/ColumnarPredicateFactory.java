@@ -0,0 +1,238 @@
+package com.tn.query.java;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.tn.query.PredicateFactory;
+import com.tn.query.QueryException;
+
+public class ColumnarPredicateFactory implements PredicateFactory<ColumnPredicate>
+{
+  private static final int EQUAL = 0;
+  private static final int GREATER = 1;
+  private static final int LESS = -1;
+  private static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+  private final boolean vectorized;
+
+  public ColumnarPredicateFactory()
+  {
+    //The vector kernels are used when the JVM is started with --add-modules jdk.incubator.vector, otherwise the scalar kernels are used.
+    this(VECTOR_AVAILABLE);
+  }
+
+  ColumnarPredicateFactory(boolean vectorized)
+  {
+    if (vectorized && !VECTOR_AVAILABLE) throw new IllegalStateException("Module not available: jdk.incubator.vector");
+
+    this.vectorized = vectorized;
+  }
+
+  @Override
+  public ColumnPredicate equal(String left, Object right)
+  {
+    return batch -> BitSet.valueOf(equal(batch, left, right));
+  }
+
+  @Override
+  public ColumnPredicate notEqual(String left, Object right)
+  {
+    return batch -> BitSet.valueOf(ColumnKernels.negate(equal(batch, left, right), batch.size()));
+  }
+
+  @Override
+  public ColumnPredicate greaterThan(String left, Object right)
+  {
+    return comparison(left, right, GREATER, GREATER);
+  }
+
+  @Override
+  public ColumnPredicate greaterThanOrEqual(String left, Object right)
+  {
+    return comparison(left, right, EQUAL, GREATER);
+  }
+
+  @Override
+  public ColumnPredicate lessThan(String left, Object right)
+  {
+    return comparison(left, right, LESS, LESS);
+  }
+
+  @Override
+  public ColumnPredicate lessThanOrEqual(String left, Object right)
+  {
+    return comparison(left, right, LESS, EQUAL);
+  }
+
+  @Override
+  public ColumnPredicate like(String left, Object right)
+  {
+    Predicate<String> matcher = likeMatcher(right);
+    return batch -> BitSet.valueOf(ColumnKernels.like(likeColumn(batch, left), batch.size(), matcher));
+  }
+
+  @Override
+  public ColumnPredicate notLike(String left, Object right)
+  {
+    Predicate<String> matcher = likeMatcher(right);
+    return batch -> BitSet.valueOf(ColumnKernels.negate(ColumnKernels.like(likeColumn(batch, left), batch.size(), matcher), batch.size()));
+  }
+
+  @Override
+  public ColumnPredicate in(String left, List<?> right)
+  {
+    //Values of another type can never be equal to a primitive column, so they are dropped rather than stored.
+    long[] ints = right.stream().filter(Integer.class::isInstance).mapToLong(value -> (Integer)value).distinct().toArray();
+    long[] longs = right.stream().filter(Long.class::isInstance).mapToLong(value -> (Long)value).distinct().toArray();
+    long[] doubles = right.stream().filter(Double.class::isInstance).mapToLong(value -> Double.doubleToLongBits((Double)value)).distinct().toArray();
+    LongHashSet intSet = new LongHashSet(ints);
+    LongHashSet longSet = new LongHashSet(longs);
+    LongHashSet doubleSet = new LongHashSet(doubles);
+    Set<?> values = new HashSet<>(right);
+
+    return batch ->
+    {
+      Object column = batch.column(left);
+
+      if (column instanceof int[]) return BitSet.valueOf(this.vectorized ? VectorKernels.in((int[])column, batch.size(), ints, intSet) : ColumnKernels.in((int[])column, batch.size(), intSet));
+      if (column instanceof long[]) return BitSet.valueOf(this.vectorized ? VectorKernels.in((long[])column, batch.size(), longs, longSet) : ColumnKernels.in((long[])column, batch.size(), longSet));
+      if (column instanceof double[]) return BitSet.valueOf(this.vectorized ? VectorKernels.in((double[])column, batch.size(), doubles, doubleSet) : ColumnKernels.in((double[])column, batch.size(), doubleSet));
+
+      return BitSet.valueOf(ColumnKernels.in((Object[])column, batch.size(), values));
+    };
+  }
+
+  @Override
+  public ColumnPredicate and(ColumnPredicate left, ColumnPredicate right)
+  {
+    return and(List.of(left, right));
+  }
+
+  @Override
+  public ColumnPredicate or(ColumnPredicate left, ColumnPredicate right)
+  {
+    return or(List.of(left, right));
+  }
+
+  @Override
+  public ColumnPredicate and(List<ColumnPredicate> predicates)
+  {
+    ColumnPredicate[] operands = predicates.toArray(new ColumnPredicate[0]);
+
+    return batch ->
+    {
+      BitSet result = operands[0].evaluate(batch);
+
+      //Once no rows are left the remaining operands cannot change the result.
+      for (int i = 1; i < operands.length && !result.isEmpty(); i++) result.and(operands[i].evaluate(batch));
+
+      return result;
+    };
+  }
+
+  @Override
+  public ColumnPredicate or(List<ColumnPredicate> predicates)
+  {
+    ColumnPredicate[] operands = predicates.toArray(new ColumnPredicate[0]);
+
+    return batch ->
+    {
+      BitSet result = operands[0].evaluate(batch);
+
+      //Once every row is set the remaining operands cannot change the result.
+      for (int i = 1; i < operands.length && result.nextClearBit(0) < batch.size(); i++) result.or(operands[i].evaluate(batch));
+
+      return result;
+    };
+  }
+
+  @Override
+  public ColumnPredicate constant(boolean value)
+  {
+    return batch -> BitSet.valueOf(value ? ColumnKernels.all(batch.size()) : ColumnKernels.none(batch.size()));
+  }
+
+  @Override
+  public ColumnPredicate parenthesis(ColumnPredicate node)
+  {
+    //Parenthesis is handled implicitly when parsing queries.
+    return node;
+  }
+
+  @Override
+  public boolean isReusable()
+  {
+    return true;
+  }
+
+  public boolean isVectorized()
+  {
+    return this.vectorized;
+  }
+
+  private ColumnPredicate comparison(String left, Object right, int min, int max)
+  {
+    if (!(right instanceof Comparable)) throw new QueryException("Cannot compare: " + right);
+
+    return batch ->
+    {
+      Object column = batch.column(left);
+
+      long[] words = compare(column, batch.size(), right, min, max);
+      if (words != null) return BitSet.valueOf(words);
+      if (column instanceof Object[]) return BitSet.valueOf(ColumnKernels.compare((Object[])column, batch.size(), right, min, max));
+
+      throw new QueryException("Type mismatch: " + left + " (" + column.getClass().getComponentType().getSimpleName() + ") and " + right);
+    };
+  }
+
+  private long[] equal(ColumnBatch batch, String left, Object right)
+  {
+    Object column = batch.column(left);
+
+    long[] words = compare(column, batch.size(), right, EQUAL, EQUAL);
+    if (words != null) return words;
+    if (column instanceof Object[]) return ColumnKernels.equal((Object[])column, batch.size(), right);
+
+    //Values of another type can never be equal to a primitive column.
+    return ColumnKernels.none(batch.size());
+  }
+
+  private long[] compare(Object column, int size, Object right, int min, int max)
+  {
+    if (column instanceof int[] && right instanceof Integer)
+    {
+      return this.vectorized ? VectorKernels.compare((int[])column, size, (Integer)right, min, max) : ColumnKernels.compare((int[])column, size, (Integer)right, min, max);
+    }
+
+    if (column instanceof long[] && right instanceof Long)
+    {
+      return this.vectorized ? VectorKernels.compare((long[])column, size, (Long)right, min, max) : ColumnKernels.compare((long[])column, size, (Long)right, min, max);
+    }
+
+    if (column instanceof double[] && right instanceof Double)
+    {
+      return this.vectorized ? VectorKernels.compare((double[])column, size, (Double)right, min, max) : ColumnKernels.compare((double[])column, size, (Double)right, min, max);
+    }
+
+    return null;
+  }
+
+  private Object[] likeColumn(ColumnBatch batch, String left)
+  {
+    Object column = batch.column(left);
+    if (!(column instanceof Object[])) throw new QueryException("Like comparisons only work for string values, received: " + column.getClass().getComponentType().getSimpleName() + " column " + left);
+
+    return (Object[])column;
+  }
+
+  private Predicate<String> likeMatcher(Object right)
+  {
+    if (!(right instanceof String)) throw new QueryException("Like comparisons only work for string values, received: " + right);
+
+    return LikeMatcher.compile((String)right);
+  }
+}
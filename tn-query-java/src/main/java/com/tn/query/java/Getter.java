@@ -1,17 +1,33 @@
 package com.tn.query.java;
 
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import com.tn.query.Named;
 
 public class Getter<T> extends Named
 {
   private final Function<T, ?> get;
+  private final ToDoubleFunction<T> getDouble;
+  private final ToIntFunction<T> getInt;
+  private final ToLongFunction<T> getLong;
+  private final Class<?> type;
 
-  private Getter(String name, Function<T, ?> get)
+  private Getter(String name, Class<?> type, Function<T, ?> get)
+  {
+    this(name, type, get, null, null, null);
+  }
+
+  private Getter(String name, Class<?> type, Function<T, ?> get, ToDoubleFunction<T> getDouble, ToIntFunction<T> getInt, ToLongFunction<T> getLong)
   {
     super(name);
+    this.type = type;
     this.get = get;
+    this.getDouble = getDouble;
+    this.getInt = getInt;
+    this.getLong = getLong;
   }
 
   public Object get(T t)
@@ -19,48 +35,88 @@ public class Getter<T> extends Named
     return this.get.apply(t);
   }
 
+  Class<?> type()
+  {
+    return this.type;
+  }
+
+  Function<T, ?> valueGetter()
+  {
+    return this.get;
+  }
+
+  ToDoubleFunction<T> doubleGetter()
+  {
+    return this.getDouble;
+  }
+
+  ToIntFunction<T> intGetter()
+  {
+    return this.getInt;
+  }
+
+  ToLongFunction<T> longGetter()
+  {
+    return this.getLong;
+  }
+
   public static <T> Getter<T> booleanValue(String name, Function<T, Boolean> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Boolean.class, get);
   }
 
   public static <T> Getter<T> byteValue(String name, Function<T, Byte> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Byte.class, get);
   }
 
   public static <T> Getter<T> charValue(String name, Function<T, Character> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Character.class, get);
   }
 
   public static <T> Getter<T> comparableValue(String name, Function<T, Comparable<?>> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Comparable.class, get);
   }
 
   public static <T> Getter<T> doubleValue(String name, Function<T, Double> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Double.class, get);
   }
 
   public static <T> Getter<T> floatValue(String name, Function<T, Float> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Float.class, get);
   }
 
   public static <T> Getter<T> intValue(String name, Function<T, Integer> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Integer.class, get);
   }
 
   public static <T> Getter<T> longValue(String name, Function<T, Long> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Long.class, get);
   }
 
   public static <T> Getter<T> shortValue(String name, Function<T, Short> get)
   {
-    return new Getter<>(name, get);
+    return new Getter<>(name, Short.class, get);
+  }
+
+  public static <T> Getter<T> primitiveDouble(String name, ToDoubleFunction<T> get)
+  {
+    return new Getter<>(name, Double.class, get::applyAsDouble, get, null, null);
+  }
+
+  public static <T> Getter<T> primitiveInt(String name, ToIntFunction<T> get)
+  {
+    return new Getter<>(name, Integer.class, get::applyAsInt, null, get, null);
+  }
+
+  public static <T> Getter<T> primitiveLong(String name, ToLongFunction<T> get)
+  {
+    return new Getter<>(name, Long.class, get::applyAsLong, null, null, get);
   }
 }
@@ -0,0 +1,252 @@
+package com.tn.query.java;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nonnull;
+
+import com.tn.query.FieldDescriptor;
+import com.tn.query.FieldRegistry;
+import com.tn.query.QueryException;
+
+public final class Getters
+{
+  private static final String BOOLEAN_PREFIX = "is";
+  private static final String GETTER_PREFIX = "get";
+
+  private static final ClassValue<List<Getter<?>>> GETTERS = new ClassValue<>()
+  {
+    @Override
+    protected List<Getter<?>> computeValue(Class<?> subject)
+    {
+      return getters(subject);
+    }
+  };
+
+  private static final Map<Class<?>, BiFunction<String, Function<Object, ?>, Getter<?>>> BOXED = Map.ofEntries(
+    Map.entry(boolean.class, (name, get) -> Getter.booleanValue(name, cast(get))),
+    Map.entry(byte.class, (name, get) -> Getter.byteValue(name, cast(get))),
+    Map.entry(char.class, (name, get) -> Getter.charValue(name, cast(get))),
+    Map.entry(float.class, (name, get) -> Getter.floatValue(name, cast(get))),
+    Map.entry(short.class, (name, get) -> Getter.shortValue(name, cast(get))),
+    Map.entry(Boolean.class, (name, get) -> Getter.booleanValue(name, cast(get))),
+    Map.entry(Byte.class, (name, get) -> Getter.byteValue(name, cast(get))),
+    Map.entry(Character.class, (name, get) -> Getter.charValue(name, cast(get))),
+    Map.entry(Double.class, (name, get) -> Getter.doubleValue(name, cast(get))),
+    Map.entry(Float.class, (name, get) -> Getter.floatValue(name, cast(get))),
+    Map.entry(Integer.class, (name, get) -> Getter.intValue(name, cast(get))),
+    Map.entry(Long.class, (name, get) -> Getter.longValue(name, cast(get))),
+    Map.entry(Short.class, (name, get) -> Getter.shortValue(name, cast(get)))
+  );
+
+  private Getters() {}
+
+  @SuppressWarnings("unchecked")
+  public static <T> List<Getter<T>> forClass(@Nonnull Class<T> subject)
+  {
+    return (List<Getter<T>>)(List<?>)GETTERS.get(subject);
+  }
+
+  private static List<Getter<?>> getters(Class<?> subject)
+  {
+    Map<Class<?>, MethodHandles.Lookup> lookups = new HashMap<>();
+    List<Getter<?>> getters = new ArrayList<>();
+
+    for (Accessor accessor : accessors(subject))
+    {
+      //Inherited fields and methods can only be read with a lookup in the class that declares them.
+      Class<?> declaringClass = accessor.method() != null ? accessor.method().getDeclaringClass() : accessor.field().getDeclaringClass();
+      Getter<?> getter = getter(lookups.computeIfAbsent(declaringClass, Getters::lookup), accessor);
+      if (getter != null) getters.add(getter);
+    }
+
+    return List.copyOf(getters);
+  }
+
+  private static List<Accessor> accessors(Class<?> subject)
+  {
+    //The registry decides which fields, declared and inherited, are read, so getters agree with the mappers and column names.
+    return FieldRegistry.fields(subject).stream()
+      .map(FieldDescriptor::field)
+      .map(field -> new Accessor(field.getName(), field.getType(), subject.isRecord() ? recordAccessor(subject, field) : getterMethod(subject, field), field))
+      .toList();
+  }
+
+  private static Method recordAccessor(Class<?> subject, Field field)
+  {
+    try
+    {
+      return subject.getDeclaredMethod(field.getName());
+    }
+    catch (NoSuchMethodException e)
+    {
+      return null;
+    }
+  }
+
+  private static Method getterMethod(Class<?> subject, Field field)
+  {
+    String capitalized = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+
+    //The getter closest to the subject is used, so a getter overridden by a subclass is preferred to the one it overrides.
+    for (Class<?> type = subject; type != null && type != Object.class; type = type.getSuperclass())
+    {
+      for (String prefix : List.of(GETTER_PREFIX, BOOLEAN_PREFIX))
+      {
+        try
+        {
+          Method method = type.getDeclaredMethod(prefix + capitalized);
+          if (method.getReturnType().equals(field.getType()) && !Modifier.isStatic(method.getModifiers())) return method;
+        }
+        catch (NoSuchMethodException e)
+        {
+          //Try the next prefix, or fall back to the field.
+        }
+      }
+
+      if (type == field.getDeclaringClass()) break;
+    }
+
+    return null;
+  }
+
+  private static Getter<?> getter(MethodHandles.Lookup lookup, Accessor accessor)
+  {
+    Class<?> type = accessor.type();
+
+    if (type == int.class) return Getter.primitiveInt(accessor.name(), cast(function(lookup, accessor, ToIntFunction.class, "applyAsInt", int.class)));
+    if (type == long.class) return Getter.primitiveLong(accessor.name(), cast(function(lookup, accessor, ToLongFunction.class, "applyAsLong", long.class)));
+    if (type == double.class) return Getter.primitiveDouble(accessor.name(), cast(function(lookup, accessor, ToDoubleFunction.class, "applyAsDouble", double.class)));
+
+    BiFunction<String, Function<Object, ?>, Getter<?>> boxed = BOXED.get(type);
+    if (boxed == null && !Comparable.class.isAssignableFrom(type)) return null;
+
+    Function<Object, ?> get = cast(function(lookup, accessor, Function.class, "apply", Object.class));
+    return boxed != null ? boxed.apply(accessor.name(), get) : Getter.comparableValue(accessor.name(), cast(get));
+  }
+
+  private static Object function(MethodHandles.Lookup lookup, Accessor accessor, Class<?> functionalInterface, String methodName, Class<?> returnType)
+  {
+    try
+    {
+      MethodHandle handle = accessor.method() != null ? lookup.unreflect(accessor.method()) : lookup.unreflectGetter(accessor.field());
+
+      //Fields, and classes in another module, can only be read through the method handle; methods are otherwise bound with LambdaMetafactory so reads are direct calls.
+      if (accessor.method() == null || !lookup.hasFullPrivilegeAccess()) return handleFunction(handle, functionalInterface, returnType);
+
+      return LambdaMetafactory.metafactory(
+        lookup,
+        methodName,
+        methodType(functionalInterface),
+        methodType(returnType, Object.class),
+        handle,
+        returnType.isPrimitive() ? handle.type() : handle.type().wrap()
+      ).getTarget().invoke();
+    }
+    catch (Throwable e)
+    {
+      throw new QueryException("Failed to bind getter for: " + accessor.name(), e);
+    }
+  }
+
+  private static Object handleFunction(MethodHandle handle, Class<?> functionalInterface, Class<?> returnType)
+  {
+    MethodHandle get = handle.asType(methodType(returnType, Object.class));
+
+    if (functionalInterface == ToIntFunction.class) return (ToIntFunction<Object>)target -> invokeInt(get, target);
+    if (functionalInterface == ToLongFunction.class) return (ToLongFunction<Object>)target -> invokeLong(get, target);
+    if (functionalInterface == ToDoubleFunction.class) return (ToDoubleFunction<Object>)target -> invokeDouble(get, target);
+
+    return (Function<Object, Object>)target -> invoke(get, target);
+  }
+
+  private static Object invoke(MethodHandle get, Object target)
+  {
+    try
+    {
+      return get.invokeExact(target);
+    }
+    catch (Throwable e)
+    {
+      throw failed(e, target);
+    }
+  }
+
+  private static double invokeDouble(MethodHandle get, Object target)
+  {
+    try
+    {
+      return (double)get.invokeExact(target);
+    }
+    catch (Throwable e)
+    {
+      throw failed(e, target);
+    }
+  }
+
+  private static int invokeInt(MethodHandle get, Object target)
+  {
+    try
+    {
+      return (int)get.invokeExact(target);
+    }
+    catch (Throwable e)
+    {
+      throw failed(e, target);
+    }
+  }
+
+  private static long invokeLong(MethodHandle get, Object target)
+  {
+    try
+    {
+      return (long)get.invokeExact(target);
+    }
+    catch (Throwable e)
+    {
+      throw failed(e, target);
+    }
+  }
+
+  private static RuntimeException failed(Throwable e, Object target)
+  {
+    if (e instanceof RuntimeException) return (RuntimeException)e;
+    if (e instanceof Error) throw (Error)e;
+
+    return new QueryException("Failed to get value from: " + target, e);
+  }
+
+  private static MethodHandles.Lookup lookup(Class<?> subject)
+  {
+    try
+    {
+      return MethodHandles.privateLookupIn(subject, MethodHandles.lookup());
+    }
+    catch (IllegalAccessException e)
+    {
+      throw new QueryException("Cannot access: " + subject.getName(), e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T cast(Object object)
+  {
+    return (T)object;
+  }
+
+  private record Accessor(String name, Class<?> type, Method method, Field field) {}
+}
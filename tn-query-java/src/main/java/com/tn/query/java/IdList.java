@@ -0,0 +1,103 @@
+package com.tn.query.java;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+final class IdList
+{
+  static final int[] EMPTY = new int[0];
+
+  //Most indexed values are held by a single id, so a list starts with room for one and doubles only when a second id is added.
+  private static final int INITIAL_CAPACITY = 1;
+
+  private int[] ids = new int[INITIAL_CAPACITY];
+  private int size;
+
+  void add(int id)
+  {
+    //Ids are allocated in ascending order, so appending keeps the list sorted.
+    if (this.size == this.ids.length) this.ids = Arrays.copyOf(this.ids, this.size * 2);
+    this.ids[this.size++] = id;
+  }
+
+  boolean remove(int id)
+  {
+    int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+    if (index < 0) return false;
+
+    System.arraycopy(this.ids, index + 1, this.ids, index, this.size - index - 1);
+    this.size--;
+
+    return true;
+  }
+
+  int last()
+  {
+    return this.ids[this.size - 1];
+  }
+
+  boolean isEmpty()
+  {
+    return this.size == 0;
+  }
+
+  int size()
+  {
+    return this.size;
+  }
+
+  int[] toArray()
+  {
+    return Arrays.copyOf(this.ids, this.size);
+  }
+
+  static int[] union(Collection<IdList> lists)
+  {
+    if (lists.isEmpty()) return EMPTY;
+    if (lists.size() == 1) return lists.iterator().next().toArray();
+
+    int size = 0;
+    for (IdList list : lists) size += list.size;
+
+    int[] ids = new int[size];
+    int offset = 0;
+    for (IdList list : lists)
+    {
+      System.arraycopy(list.ids, 0, ids, offset, list.size);
+      offset += list.size;
+    }
+
+    Arrays.sort(ids);
+    return distinct(ids);
+  }
+
+  static int[] union(int[] left, int[] right)
+  {
+    int[] ids = new int[left.length + right.length];
+    int size = 0;
+
+    for (int l = 0, r = 0; l < left.length || r < right.length; )
+    {
+      if (r == right.length || (l < left.length && left[l] < right[r])) ids[size++] = left[l++];
+      else if (l == left.length || right[r] < left[l]) ids[size++] = right[r++];
+      else
+      {
+        ids[size++] = left[l++];
+        r++;
+      }
+    }
+
+    return size == ids.length ? ids : Arrays.copyOf(ids, size);
+  }
+
+  private static int[] distinct(int[] ids)
+  {
+    int size = 0;
+    for (int i = 0; i < ids.length; i++)
+    {
+      if (size == 0 || ids[size - 1] != ids[i]) ids[size++] = ids[i];
+    }
+
+    return size == ids.length ? ids : Arrays.copyOf(ids, size);
+  }
+}
@@ -0,0 +1,151 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class IntervalIndex
+{
+  private static final Comparator<Interval> BY_LOWER = Comparator.comparing(interval -> interval.bounds().lower(), Comparator.nullsFirst(Bounds::compare));
+  //A missing upper bound is above every value, so those intervals come first when sorted from the highest upper bound.
+  private static final Comparator<Interval> BY_UPPER = Comparator.comparing(interval -> interval.bounds().upper(), Comparator.nullsFirst(((Comparator<Object>)Bounds::compare).reversed()));
+
+  private final Map<Integer, List<Bounds>> intervals;
+
+  //The tree is rebuilt the first time the index is searched after a change.
+  private volatile Node root;
+
+  IntervalIndex()
+  {
+    this.intervals = new HashMap<>();
+  }
+
+  boolean isEmpty()
+  {
+    return this.intervals.isEmpty();
+  }
+
+  void add(int id, Bounds bounds)
+  {
+    this.intervals.computeIfAbsent(id, key -> new ArrayList<>()).add(bounds);
+    this.root = null;
+  }
+
+  void remove(int id)
+  {
+    if (this.intervals.remove(id) != null) this.root = null;
+  }
+
+  void stab(Object value, IdList found)
+  {
+    //The ids are found in no particular order and an id with several intervals may be found more than once, IdList.union sorts and de-duplicates them.
+    Node node = root();
+
+    while (node != null)
+    {
+      int comparison = Bounds.compare(value, node.center());
+
+      if (comparison < 0)
+      {
+        //Every interval in the node ends at or above the center, so only the lower bounds need checking.
+        for (Interval interval : node.byLower())
+        {
+          int lower = interval.bounds().lower() == null ? 1 : Bounds.compare(value, interval.bounds().lower());
+          if (lower < 0) break;
+          if (lower > 0 || interval.bounds().lowerInclusive()) found.add(interval.id());
+        }
+
+        node = node.left();
+      }
+      else if (comparison > 0)
+      {
+        for (Interval interval : node.byUpper())
+        {
+          int upper = interval.bounds().upper() == null ? -1 : Bounds.compare(value, interval.bounds().upper());
+          if (upper > 0) break;
+          if (upper < 0 || interval.bounds().upperInclusive()) found.add(interval.id());
+        }
+
+        node = node.right();
+      }
+      else
+      {
+        //Intervals to the left end below the center and intervals to the right start above it, so only this node can contain the center.
+        for (Interval interval : node.byLower())
+        {
+          if (contains(interval.bounds(), value)) found.add(interval.id());
+        }
+
+        node = null;
+      }
+    }
+  }
+
+  private Node root()
+  {
+    Node root = this.root;
+    if (root != null || this.intervals.isEmpty()) return root;
+
+    synchronized (this)
+    {
+      if (this.root == null)
+      {
+        List<Interval> intervals = new ArrayList<>();
+        this.intervals.forEach((id, bounds) -> bounds.forEach(interval -> intervals.add(new Interval(id, interval))));
+
+        this.root = build(intervals);
+      }
+
+      return this.root;
+    }
+  }
+
+  private static Node build(List<Interval> intervals)
+  {
+    if (intervals.isEmpty()) return null;
+
+    List<Object> endpoints = new ArrayList<>(intervals.size() * 2);
+    for (Interval interval : intervals)
+    {
+      if (interval.bounds().lower() != null) endpoints.add(interval.bounds().lower());
+      if (interval.bounds().upper() != null) endpoints.add(interval.bounds().upper());
+    }
+
+    //The median endpoint splits the intervals evenly, and the interval it belongs to always contains it, so each subtree is smaller than its parent.
+    endpoints.sort(Bounds::compare);
+    Object center = endpoints.get(endpoints.size() / 2);
+
+    List<Interval> left = new ArrayList<>();
+    List<Interval> right = new ArrayList<>();
+    List<Interval> centered = new ArrayList<>();
+
+    for (Interval interval : intervals)
+    {
+      if (interval.bounds().upper() != null && Bounds.compare(interval.bounds().upper(), center) < 0) left.add(interval);
+      else if (interval.bounds().lower() != null && Bounds.compare(interval.bounds().lower(), center) > 0) right.add(interval);
+      else centered.add(interval);
+    }
+
+    return new Node(
+      center,
+      centered.stream().sorted(BY_LOWER).toArray(Interval[]::new),
+      centered.stream().sorted(BY_UPPER).toArray(Interval[]::new),
+      build(left),
+      build(right)
+    );
+  }
+
+  private static boolean contains(Bounds bounds, Object value)
+  {
+    int lower = bounds.lower() == null ? 1 : Bounds.compare(value, bounds.lower());
+    int upper = bounds.upper() == null ? -1 : Bounds.compare(value, bounds.upper());
+
+    return (lower > 0 || (lower == 0 && bounds.lowerInclusive())) && (upper < 0 || (upper == 0 && bounds.upperInclusive()));
+  }
+
+  private record Interval(int id, Bounds bounds) {}
+
+  private record Node(Object center, Interval[] byLower, Interval[] byUpper, Node left, Node right) {}
+}
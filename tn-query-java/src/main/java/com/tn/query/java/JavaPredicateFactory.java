@@ -3,11 +3,16 @@ package com.tn.query.java;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import javax.annotation.Nonnull;
 
 import com.tn.query.PredicateFactory;
@@ -15,77 +20,199 @@ import com.tn.query.QueryException;
 
 public class JavaPredicateFactory<T> implements PredicateFactory<Predicate<T>>
 {
-  private static final String REGEX_ANY = ".*";
-  private static final String WILDCARD = "*";
+  private static final Predicate<?> ALWAYS_FALSE = target -> false;
+  private static final Predicate<?> ALWAYS_TRUE = target -> true;
+  private static final Map<Class<?>, Comparisons> COMPARISONS = Map.of(
+    Boolean.class, new Comparisons(
+      (get, right) -> target -> Boolean.compare(value(get.apply(target), Boolean.class), (Boolean)right) > 0,
+      (get, right) -> target -> Boolean.compare(value(get.apply(target), Boolean.class), (Boolean)right) >= 0,
+      (get, right) -> target -> Boolean.compare(value(get.apply(target), Boolean.class), (Boolean)right) < 0,
+      (get, right) -> target -> Boolean.compare(value(get.apply(target), Boolean.class), (Boolean)right) <= 0
+    ),
+    Byte.class, new Comparisons(
+      (get, right) -> target -> Byte.compare(value(get.apply(target), Byte.class), (Byte)right) > 0,
+      (get, right) -> target -> Byte.compare(value(get.apply(target), Byte.class), (Byte)right) >= 0,
+      (get, right) -> target -> Byte.compare(value(get.apply(target), Byte.class), (Byte)right) < 0,
+      (get, right) -> target -> Byte.compare(value(get.apply(target), Byte.class), (Byte)right) <= 0
+    ),
+    Character.class, new Comparisons(
+      (get, right) -> target -> Character.compare(value(get.apply(target), Character.class), (Character)right) > 0,
+      (get, right) -> target -> Character.compare(value(get.apply(target), Character.class), (Character)right) >= 0,
+      (get, right) -> target -> Character.compare(value(get.apply(target), Character.class), (Character)right) < 0,
+      (get, right) -> target -> Character.compare(value(get.apply(target), Character.class), (Character)right) <= 0
+    ),
+    Double.class, new Comparisons(
+      (get, right) -> target -> Double.compare(value(get.apply(target), Double.class), (Double)right) > 0,
+      (get, right) -> target -> Double.compare(value(get.apply(target), Double.class), (Double)right) >= 0,
+      (get, right) -> target -> Double.compare(value(get.apply(target), Double.class), (Double)right) < 0,
+      (get, right) -> target -> Double.compare(value(get.apply(target), Double.class), (Double)right) <= 0
+    ),
+    Float.class, new Comparisons(
+      (get, right) -> target -> Float.compare(value(get.apply(target), Float.class), (Float)right) > 0,
+      (get, right) -> target -> Float.compare(value(get.apply(target), Float.class), (Float)right) >= 0,
+      (get, right) -> target -> Float.compare(value(get.apply(target), Float.class), (Float)right) < 0,
+      (get, right) -> target -> Float.compare(value(get.apply(target), Float.class), (Float)right) <= 0
+    ),
+    Integer.class, new Comparisons(
+      (get, right) -> target -> Integer.compare(value(get.apply(target), Integer.class), (Integer)right) > 0,
+      (get, right) -> target -> Integer.compare(value(get.apply(target), Integer.class), (Integer)right) >= 0,
+      (get, right) -> target -> Integer.compare(value(get.apply(target), Integer.class), (Integer)right) < 0,
+      (get, right) -> target -> Integer.compare(value(get.apply(target), Integer.class), (Integer)right) <= 0
+    ),
+    Long.class, new Comparisons(
+      (get, right) -> target -> Long.compare(value(get.apply(target), Long.class), (Long)right) > 0,
+      (get, right) -> target -> Long.compare(value(get.apply(target), Long.class), (Long)right) >= 0,
+      (get, right) -> target -> Long.compare(value(get.apply(target), Long.class), (Long)right) < 0,
+      (get, right) -> target -> Long.compare(value(get.apply(target), Long.class), (Long)right) <= 0
+    ),
+    Short.class, new Comparisons(
+      (get, right) -> target -> Short.compare(value(get.apply(target), Short.class), (Short)right) > 0,
+      (get, right) -> target -> Short.compare(value(get.apply(target), Short.class), (Short)right) >= 0,
+      (get, right) -> target -> Short.compare(value(get.apply(target), Short.class), (Short)right) < 0,
+      (get, right) -> target -> Short.compare(value(get.apply(target), Short.class), (Short)right) <= 0
+    )
+  );
 
-  private final Map<String, Function<T, ?>> getters;
+  private final Map<String, Getter<T>> getters;
 
   public JavaPredicateFactory(Collection<Getter<T>> getters)
   {
-    this.getters = getters.stream().collect(toMap(Getter::name, getter -> getter::get));
+    this.getters = getters.stream().collect(toMap(Getter::name, getter -> getter));
   }
 
   @Override
   public Predicate<T> equal(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> Objects.equals(getter.apply(target), right);
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) == value,
+      (get, value) -> target -> get.applyAsLong(target) == value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) == 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    return target -> Objects.equals(getter.get(target), right);
   }
 
   @Override
   public Predicate<T> notEqual(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> !Objects.equals(getter.apply(target), right);
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) != value,
+      (get, value) -> target -> get.applyAsLong(target) != value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) != 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    return target -> !Objects.equals(getter.get(target), right);
   }
 
   @Override
   public Predicate<T> greaterThan(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> compare(getter.apply(target), right) > 0;
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) > value,
+      (get, value) -> target -> get.applyAsLong(target) > value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) > 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    Comparisons comparisons = comparisons(getter, right);
+    if (comparisons != null) return predicate(comparisons.greaterThan(), getter, right);
+
+    return target -> compare(getter.get(target), right) > 0;
   }
 
   @Override
   public Predicate<T> greaterThanOrEqual(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> compare(getter.apply(target), right) >= 0;
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) >= value,
+      (get, value) -> target -> get.applyAsLong(target) >= value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) >= 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    Comparisons comparisons = comparisons(getter, right);
+    if (comparisons != null) return predicate(comparisons.greaterThanOrEqual(), getter, right);
+
+    return target -> compare(getter.get(target), right) >= 0;
   }
 
   @Override
   public Predicate<T> lessThan(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> compare(getter.apply(target), right) < 0;
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) < value,
+      (get, value) -> target -> get.applyAsLong(target) < value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) < 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    Comparisons comparisons = comparisons(getter, right);
+    if (comparisons != null) return predicate(comparisons.lessThan(), getter, right);
+
+    return target -> compare(getter.get(target), right) < 0;
   }
 
   @Override
   public Predicate<T> lessThanOrEqual(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> compare(getter.apply(target), right) <= 0;
+    Predicate<T> primitive = primitive(
+      left,
+      right,
+      (get, value) -> target -> get.applyAsInt(target) <= value,
+      (get, value) -> target -> get.applyAsLong(target) <= value,
+      (get, value) -> target -> Double.compare(get.applyAsDouble(target), value) <= 0
+    );
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    Comparisons comparisons = comparisons(getter, right);
+    if (comparisons != null) return predicate(comparisons.lessThanOrEqual(), getter, right);
+
+    return target -> compare(getter.get(target), right) <= 0;
   }
 
   @Override
   public Predicate<T> like(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> like(getter.apply(target), right);
+    Getter<T> getter = getter(left);
+    Predicate<String> matcher = likeMatcher(right);
+    return target -> matcher.test(likeValue(getter.get(target)));
   }
 
   @Override
   public Predicate<T> notLike(String left, Object right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> !like(getter.apply(target), right);
+    Getter<T> getter = getter(left);
+    Predicate<String> matcher = likeMatcher(right);
+    return target -> !matcher.test(likeValue(getter.get(target)));
   }
 
   @Override
   public Predicate<T> in(String left, List<?> right)
   {
-    Function<T, ?> getter = getter(left);
-    return target -> right.contains(getter.apply(target));
+    Predicate<T> primitive = primitiveIn(left, right);
+    if (primitive != null) return primitive;
+
+    Getter<T> getter = getter(left);
+    Set<?> values = new HashSet<>(right);
+    return target -> values.contains(getter.get(target));
   }
 
   @Override
@@ -100,6 +227,47 @@ public class JavaPredicateFactory<T> implements PredicateFactory<Predicate<T>>
     return value -> left.test(value) || right.test(value);
   }
 
+  @Override
+  public Predicate<T> and(List<Predicate<T>> predicates)
+  {
+    @SuppressWarnings("unchecked")
+    Predicate<T>[] operands = predicates.toArray(new Predicate[0]);
+
+    return value ->
+    {
+      for (Predicate<T> operand : operands)
+      {
+        if (!operand.test(value)) return false;
+      }
+
+      return true;
+    };
+  }
+
+  @Override
+  public Predicate<T> or(List<Predicate<T>> predicates)
+  {
+    @SuppressWarnings("unchecked")
+    Predicate<T>[] operands = predicates.toArray(new Predicate[0]);
+
+    return value ->
+    {
+      for (Predicate<T> operand : operands)
+      {
+        if (operand.test(value)) return true;
+      }
+
+      return false;
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Predicate<T> constant(boolean value)
+  {
+    return (Predicate<T>)(value ? ALWAYS_TRUE : ALWAYS_FALSE);
+  }
+
   @Override
   public Predicate<T> parenthesis(Predicate<T> node)
   {
@@ -107,35 +275,154 @@ public class JavaPredicateFactory<T> implements PredicateFactory<Predicate<T>>
     return node;
   }
 
-  private <T1> int compare(T1 obj1, T1 obj2)
+  @Override
+  public boolean isReusable()
+  {
+    return true;
+  }
+
+  public static boolean isAlwaysFalse(Predicate<?> predicate)
+  {
+    return predicate == ALWAYS_FALSE;
+  }
+
+  public static boolean isAlwaysTrue(Predicate<?> predicate)
+  {
+    return predicate == ALWAYS_TRUE;
+  }
+
+  private static Comparisons comparisons(Getter<?> getter, Object right)
+  {
+    if (!(right instanceof Comparable)) throw new QueryException("Cannot compare: " + right);
+
+    //Getters of a known type are compared with a lambda specific to that type and operator, anything else is compared generically.
+    Comparisons comparisons = getter.type() != null ? COMPARISONS.get(getter.type()) : null;
+    if (comparisons != null && !getter.type().isInstance(right)) throw new QueryException("Type mismatch: " + getter.name() + " (" + getter.type().getSimpleName() + ") and " + right);
+
+    return comparisons;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Predicate<T> predicate(Comparison comparison, Getter<T> getter, Object right)
+  {
+    return (Predicate<T>)comparison.predicate((Function<Object, ?>)getter.valueGetter(), right);
+  }
+
+  private static int compare(Object left, Object right)
   {
     try
     {
-      if (!(obj1 instanceof Comparable)) throw new QueryException("Cannot compare: " + obj1);
-      if (!(obj2 instanceof Comparable)) throw new QueryException("Cannot compare: " + obj2);
+      if (!(left instanceof Comparable)) throw new QueryException("Cannot compare: " + left);
 
       //noinspection unchecked
-      return ((Comparable<T1>)obj1).compareTo(obj2);
+      return ((Comparable<Object>)left).compareTo(right);
     }
     catch (ClassCastException e)
     {
-      throw new QueryException("Type mismatch: " + obj1 + " and " + obj2);
+      throw new QueryException("Type mismatch: " + left + " and " + right);
+    }
+  }
+
+  private static <V> V value(Object left, Class<V> type)
+  {
+    if (left == null) throw new QueryException("Cannot compare: " + left);
+    //A getter can return a value of another type through an unchecked cast, which is reported in the same way as the generic comparisons.
+    if (!type.isInstance(left)) throw new QueryException("Type mismatch: " + left + " and " + type.getSimpleName());
+
+    return type.cast(left);
+  }
+
+  private Predicate<T> primitive(String left, Object right, IntComparison<T> intComparison, LongComparison<T> longComparison, DoubleComparison<T> doubleComparison)
+  {
+    //Primitive getters compared with a value of the same type avoid boxing; anything else falls back to the generic comparisons.
+    //Each operator passes its own lambdas, so the comparison in every predicate is a single operator the JIT can inline.
+    Getter<T> getter = this.getters.get(left);
+    if (getter == null) return null;
+
+    if (getter.intGetter() != null && right instanceof Integer) return intComparison.predicate(getter.intGetter(), (Integer)right);
+    if (getter.longGetter() != null && right instanceof Long) return longComparison.predicate(getter.longGetter(), (Long)right);
+    if (getter.doubleGetter() != null && right instanceof Double) return doubleComparison.predicate(getter.doubleGetter(), (Double)right);
+
+    return null;
+  }
+
+  private Predicate<T> primitiveIn(String left, List<?> right)
+  {
+    //Values of another type can never be equal to a primitive field, so they are dropped rather than stored.
+    Getter<T> getter = this.getters.get(left);
+    if (getter == null) return null;
+
+    if (getter.intGetter() != null)
+    {
+      ToIntFunction<T> get = getter.intGetter();
+      LongHashSet values = new LongHashSet(right.stream().filter(Integer.class::isInstance).mapToLong(value -> (Integer)value).toArray());
+      return target -> values.contains(get.applyAsInt(target));
+    }
+
+    if (getter.longGetter() != null)
+    {
+      ToLongFunction<T> get = getter.longGetter();
+      LongHashSet values = new LongHashSet(right.stream().filter(Long.class::isInstance).mapToLong(value -> (Long)value).toArray());
+      return target -> values.contains(get.applyAsLong(target));
+    }
+
+    if (getter.doubleGetter() != null)
+    {
+      //Double.equals compares the bits of each value, with every NaN treated as the same value.
+      ToDoubleFunction<T> get = getter.doubleGetter();
+      LongHashSet values = new LongHashSet(right.stream().filter(Double.class::isInstance).mapToLong(value -> Double.doubleToLongBits((Double)value)).toArray());
+      return target -> values.contains(Double.doubleToLongBits(get.applyAsDouble(target)));
     }
+
+    return null;
   }
 
-  private @Nonnull Function<T, ?> getter(String left)
+  private @Nonnull Getter<T> getter(String left)
   {
-    Function<T, ?> getter = this.getters.get(left);
+    Getter<T> getter = this.getters.get(left);
     if (getter == null) throw new QueryException("Getter missing for: " + left);
 
     return getter;
   }
 
-  private boolean like(Object left, Object right)
+  private Predicate<String> likeMatcher(Object right)
   {
-    if (!(left instanceof String)) throw new QueryException("Like comparisons only work for string values, received: " + left);
     if (!(right instanceof String)) throw new QueryException("Like comparisons only work for string values, received: " + right);
 
-    return ((String)left).matches(((String)right).replace(WILDCARD, REGEX_ANY));
+    return LikeMatcher.compile((String)right);
+  }
+
+  private String likeValue(Object left)
+  {
+    if (!(left instanceof String)) throw new QueryException("Like comparisons only work for string values, received: " + left);
+
+    return (String)left;
+  }
+
+  @FunctionalInterface
+  private interface Comparison
+  {
+    Predicate<Object> predicate(Function<Object, ?> get, Object right);
+  }
+
+  private record Comparisons(Comparison greaterThan, Comparison greaterThanOrEqual, Comparison lessThan, Comparison lessThanOrEqual) {}
+
+  //Double.compare is used for doubles, so NaN equals NaN and -0.0 is less than 0.0 as with the boxed comparisons.
+  @FunctionalInterface
+  private interface DoubleComparison<T>
+  {
+    Predicate<T> predicate(ToDoubleFunction<T> get, double value);
+  }
+
+  @FunctionalInterface
+  private interface IntComparison<T>
+  {
+    Predicate<T> predicate(ToIntFunction<T> get, int value);
+  }
+
+  @FunctionalInterface
+  private interface LongComparison<T>
+  {
+    Predicate<T> predicate(ToLongFunction<T> get, long value);
   }
 }
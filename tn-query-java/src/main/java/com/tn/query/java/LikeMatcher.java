@@ -0,0 +1,60 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+final class LikeMatcher
+{
+  private static final String REGEX_ANY = ".*";
+  private static final char WILDCARD = '*';
+
+  private LikeMatcher() {}
+
+  static Predicate<String> compile(String pattern)
+  {
+    List<String> literals = literals(pattern);
+    boolean leading = !pattern.isEmpty() && pattern.charAt(0) == WILDCARD;
+    boolean trailing = !pattern.isEmpty() && pattern.charAt(pattern.length() - 1) == WILDCARD;
+
+    if (literals.isEmpty()) return leading ? s -> true : String::isEmpty;
+
+    if (literals.size() == 1)
+    {
+      String literal = literals.get(0);
+
+      if (!leading && !trailing) return literal::equals;
+      if (!leading) return s -> s.startsWith(literal);
+      if (!trailing) return s -> s.endsWith(literal);
+
+      return s -> s.contains(literal);
+    }
+
+    //The wildcard matches any character, including line terminators, to be consistent with the specialized matchers above.
+    Pattern regex = Pattern.compile(
+      (leading ? REGEX_ANY : "") + literals.stream().map(Pattern::quote).collect(Collectors.joining(REGEX_ANY)) + (trailing ? REGEX_ANY : ""),
+      Pattern.DOTALL
+    );
+
+    return s -> regex.matcher(s).matches();
+  }
+
+  private static List<String> literals(String pattern)
+  {
+    List<String> literals = new ArrayList<>();
+
+    int start = 0;
+    for (int i = 0; i <= pattern.length(); i++)
+    {
+      if (i == pattern.length() || pattern.charAt(i) == WILDCARD)
+      {
+        if (i > start) literals.add(pattern.substring(start, i));
+        start = i + 1;
+      }
+    }
+
+    return literals;
+  }
+}
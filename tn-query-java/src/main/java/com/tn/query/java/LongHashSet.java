@@ -0,0 +1,57 @@
+package com.tn.query.java;
+
+final class LongHashSet
+{
+  private static final long EMPTY = 0;
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+  private static final int MIN_CAPACITY = 8;
+
+  private final boolean containsEmpty;
+  private final long[] keys;
+  private final int mask;
+
+  LongHashSet(long[] values)
+  {
+    int capacity = MIN_CAPACITY;
+    //A load factor of at most a half keeps probe sequences short.
+    while (capacity < values.length * 2) capacity <<= 1;
+
+    this.keys = new long[capacity];
+    this.mask = capacity - 1;
+
+    boolean containsEmpty = false;
+    for (long value : values)
+    {
+      if (value == EMPTY) containsEmpty = true;
+      else this.keys[slot(value)] = value;
+    }
+
+    this.containsEmpty = containsEmpty;
+  }
+
+  boolean contains(long value)
+  {
+    if (value == EMPTY) return this.containsEmpty;
+
+    for (int i = index(value); ; i = (i + 1) & this.mask)
+    {
+      long key = this.keys[i];
+      if (key == value) return true;
+      if (key == EMPTY) return false;
+    }
+  }
+
+  private int slot(long value)
+  {
+    int i = index(value);
+    while (this.keys[i] != EMPTY && this.keys[i] != value) i = (i + 1) & this.mask;
+
+    return i;
+  }
+
+  private int index(long value)
+  {
+    long hash = value * GOLDEN_RATIO;
+    return (int)(hash ^ (hash >>> 32)) & this.mask;
+  }
+}
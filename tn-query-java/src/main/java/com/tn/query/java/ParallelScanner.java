@@ -0,0 +1,177 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+
+public class ParallelScanner
+{
+  //Large enough that the cost of a task is small next to testing its elements, small enough to balance a skewed predicate across threads.
+  private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+  private final ForkJoinPool pool;
+
+  private int chunkSize;
+
+  public ParallelScanner(@Nonnull ForkJoinPool pool)
+  {
+    this.pool = pool;
+    this.chunkSize = DEFAULT_CHUNK_SIZE;
+  }
+
+  public ParallelScanner withChunkSize(int chunkSize)
+  {
+    if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  public <T> List<T> list(@Nonnull List<? extends T> source, @Nonnull Predicate<? super T> predicate)
+  {
+    return first(source, predicate, Integer.MAX_VALUE);
+  }
+
+  public <T> List<T> first(@Nonnull List<? extends T> source, @Nonnull Predicate<? super T> predicate, int limit)
+  {
+    if (limit < 0) throw new IllegalArgumentException("Limit must not be negative: " + limit);
+    if (limit == 0) return List.of();
+
+    Scan<T> scan = new Scan<>(source, this.chunkSize);
+    @SuppressWarnings("unchecked")
+    List<T>[] found = new List[scan.chunks()];
+    //The first chunk to find the limit on its own, chunks after it cannot contribute to the result.
+    AtomicInteger lastChunk = new AtomicInteger(scan.chunks());
+
+    scan.run(this.pool, chunk ->
+    {
+      if (chunk > lastChunk.get()) return;
+
+      List<T> chunkFound = new ArrayList<>();
+      for (int i = scan.start(chunk); i < scan.end(chunk) && chunkFound.size() < limit; i++)
+      {
+        T element = scan.get(i);
+        if (predicate.test(element)) chunkFound.add(element);
+      }
+
+      found[chunk] = chunkFound;
+      if (chunkFound.size() >= limit) lastChunk.accumulateAndGet(chunk, Math::min);
+    });
+
+    List<T> result = new ArrayList<>();
+    for (int chunk = 0; chunk <= Math.min(lastChunk.get(), scan.chunks() - 1) && result.size() < limit; chunk++)
+    {
+      List<T> chunkFound = found[chunk];
+      result.addAll(chunkFound.subList(0, Math.min(chunkFound.size(), limit - result.size())));
+    }
+
+    return result;
+  }
+
+  public <T> long count(@Nonnull List<? extends T> source, @Nonnull Predicate<? super T> predicate)
+  {
+    Scan<T> scan = new Scan<>(source, this.chunkSize);
+    long[] counts = new long[scan.chunks()];
+
+    scan.run(this.pool, chunk ->
+    {
+      long count = 0;
+      for (int i = scan.start(chunk); i < scan.end(chunk); i++) if (predicate.test(scan.get(i))) count++;
+
+      counts[chunk] = count;
+    });
+
+    return Arrays.stream(counts).sum();
+  }
+
+  private static class Scan<T>
+  {
+    private final int chunkSize;
+    private final IntFunction<T> get;
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    Scan(List<? extends T> source, int chunkSize)
+    {
+      //Elements are read by index, so lists without random access are copied first rather than walked from the start for each chunk.
+      if (source instanceof RandomAccess)
+      {
+        this.get = source::get;
+      }
+      else
+      {
+        Object[] elements = source.toArray();
+        this.get = i -> (T)elements[i];
+      }
+
+      this.chunkSize = chunkSize;
+      this.size = source.size();
+    }
+
+    int chunks()
+    {
+      return (int)(((long)this.size + this.chunkSize - 1) / this.chunkSize);
+    }
+
+    int start(int chunk)
+    {
+      return chunk * this.chunkSize;
+    }
+
+    int end(int chunk)
+    {
+      return (int)Math.min((long)(chunk + 1) * this.chunkSize, this.size);
+    }
+
+    T get(int index)
+    {
+      return this.get.apply(index);
+    }
+
+    void run(ForkJoinPool pool, ChunkAction action)
+    {
+      if (chunks() > 0) pool.invoke(new ChunkTask(action, 0, chunks()));
+    }
+  }
+
+  @FunctionalInterface
+  private interface ChunkAction
+  {
+    void run(int chunk);
+  }
+
+  private static class ChunkTask extends RecursiveAction
+  {
+    private final ChunkAction action;
+    private final int from;
+    private final int to;
+
+    ChunkTask(ChunkAction action, int from, int to)
+    {
+      this.action = action;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.to - this.from == 1)
+      {
+        this.action.run(this.from);
+        return;
+      }
+
+      //The lower half runs in this thread and the upper half is forked, so earlier chunks tend to finish first.
+      int middle = (this.from + this.to) >>> 1;
+      invokeAll(new ChunkTask(this.action, this.from, middle), new ChunkTask(this.action, middle, this.to));
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.tn.query.java;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import com.tn.query.QueryException;
+
+final class PredicateCompiler
+{
+  private static final String CLASS_DATA = "_";
+  private static final String CONSTRUCTOR = "<init>";
+  private static final String INITIALIZER = "<clinit>";
+  private static final String LEAF = "leaf";
+  //Each leaf is around 10 bytes of bytecode, this keeps the test method well within the size the JIT is willing to compile.
+  private static final int MAX_LEAVES = 500;
+  private static final String METHOD_HANDLES = Type.getInternalName(MethodHandles.class);
+  private static final String NAME = Type.getInternalName(PredicateCompiler.class) + "$Compiled";
+  private static final String OBJECT = Type.getInternalName(Object.class);
+  private static final String OBJECT_ARRAY = Type.getDescriptor(Object[].class);
+  private static final String PREDICATE = Type.getInternalName(Predicate.class);
+  private static final String PREDICATE_DESCRIPTOR = Type.getDescriptor(Predicate.class);
+  private static final String TEST = "test";
+
+  private PredicateCompiler() {}
+
+  static <T> Predicate<T> compile(PredicateGroup<T> group)
+  {
+    //Trees too large to compile are found before any bytecode is generated for them.
+    if (leafCount(group) > MAX_LEAVES) return null;
+
+    List<Predicate<?>> leaves = new ArrayList<>();
+    byte[] bytes = bytes(group, leaves);
+
+    try
+    {
+      MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(bytes, leaves.toArray(), true);
+
+      @SuppressWarnings("unchecked")
+      Predicate<T> predicate = (Predicate<T>)lookup.findConstructor(lookup.lookupClass(), methodType(void.class)).invoke();
+
+      return predicate;
+    }
+    catch (Throwable e)
+    {
+      throw new QueryException("Failed to compile predicate", e);
+    }
+  }
+
+  private static int leafCount(Predicate<?> predicate)
+  {
+    if (!(predicate instanceof PredicateGroup)) return 1;
+
+    int count = 0;
+    for (Predicate<?> operand : ((PredicateGroup<?>)predicate).operands()) count += leafCount(operand);
+
+    return count;
+  }
+
+  private static byte[] bytes(PredicateGroup<?> group, List<Predicate<?>> leaves)
+  {
+    ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+    classWriter.visit(Opcodes.V17, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, NAME, null, OBJECT, new String[]{PREDICATE});
+
+    constructor(classWriter);
+    test(classWriter, group, leaves);
+
+    //Leaves are held in static final fields, which the JIT treats as constants, so each call to a leaf can be inlined.
+    for (int i = 0; i < leaves.size(); i++)
+    {
+      classWriter.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, LEAF + i, PREDICATE_DESCRIPTOR, null, null).visitEnd();
+    }
+
+    initializer(classWriter, leaves.size());
+
+    classWriter.visitEnd();
+
+    return classWriter.toByteArray();
+  }
+
+  private static void constructor(ClassWriter classWriter)
+  {
+    MethodVisitor method = classWriter.visitMethod(0, CONSTRUCTOR, "()V", null, null);
+    method.visitCode();
+    method.visitVarInsn(Opcodes.ALOAD, 0);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, CONSTRUCTOR, "()V", false);
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  private static void initializer(ClassWriter classWriter, int leafCount)
+  {
+    MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_STATIC, INITIALIZER, "()V", null, null);
+    method.visitCode();
+    method.visitMethodInsn(Opcodes.INVOKESTATIC, METHOD_HANDLES, "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+    method.visitLdcInsn(CLASS_DATA);
+    method.visitLdcInsn(Type.getType(Object[].class));
+    method.visitMethodInsn(Opcodes.INVOKESTATIC, METHOD_HANDLES, "classData", "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;", false);
+    method.visitTypeInsn(Opcodes.CHECKCAST, OBJECT_ARRAY);
+    method.visitVarInsn(Opcodes.ASTORE, 0);
+
+    for (int i = 0; i < leafCount; i++)
+    {
+      method.visitVarInsn(Opcodes.ALOAD, 0);
+      method.visitLdcInsn(i);
+      method.visitInsn(Opcodes.AALOAD);
+      method.visitTypeInsn(Opcodes.CHECKCAST, PREDICATE);
+      method.visitFieldInsn(Opcodes.PUTSTATIC, NAME, LEAF + i, PREDICATE_DESCRIPTOR);
+    }
+
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  private static void test(ClassWriter classWriter, PredicateGroup<?> group, List<Predicate<?>> leaves)
+  {
+    MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, TEST, "(Ljava/lang/Object;)Z", null, null);
+    method.visitCode();
+
+    Label unmatched = new Label();
+    branch(method, group, unmatched, false, leaves);
+
+    method.visitInsn(Opcodes.ICONST_1);
+    method.visitInsn(Opcodes.IRETURN);
+    method.visitLabel(unmatched);
+    method.visitInsn(Opcodes.ICONST_0);
+    method.visitInsn(Opcodes.IRETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  private static void branch(MethodVisitor method, Predicate<?> predicate, Label target, boolean jumpWhen, List<Predicate<?>> leaves)
+  {
+    //Emits code that jumps to the target when the predicate evaluates to jumpWhen, and otherwise falls through.  Only the && and || structure is compiled, a leaf is
+    //still the predicate JavaPredicateFactory creates and is called through Predicate.test, relying on the JIT to inline it.
+    if (!(predicate instanceof PredicateGroup))
+    {
+      method.visitFieldInsn(Opcodes.GETSTATIC, NAME, LEAF + leaves.size(), PREDICATE_DESCRIPTOR);
+      method.visitVarInsn(Opcodes.ALOAD, 1);
+      method.visitMethodInsn(Opcodes.INVOKEINTERFACE, PREDICATE, TEST, "(Ljava/lang/Object;)Z", true);
+      method.visitJumpInsn(jumpWhen ? Opcodes.IFNE : Opcodes.IFEQ, target);
+
+      leaves.add(predicate);
+      return;
+    }
+
+    PredicateGroup<?> group = (PredicateGroup<?>)predicate;
+    List<? extends Predicate<?>> operands = group.operands();
+
+    if (group.isAnd() != jumpWhen)
+    {
+      //A false operand decides an && and a true operand decides an ||, so each operand can jump straight to the target.
+      for (Predicate<?> operand : operands) branch(method, operand, target, jumpWhen, leaves);
+    }
+    else
+    {
+      Label decided = new Label();
+      for (int i = 0; i < operands.size() - 1; i++) branch(method, operands.get(i), decided, !jumpWhen, leaves);
+
+      branch(method, operands.get(operands.size() - 1), target, jumpWhen, leaves);
+      method.visitLabel(decided);
+    }
+  }
+}
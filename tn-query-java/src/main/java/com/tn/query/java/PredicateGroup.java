@@ -0,0 +1,54 @@
+package com.tn.query.java;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+final class PredicateGroup<T> implements Predicate<T>
+{
+  private final boolean and;
+  private final List<Predicate<T>> operands;
+
+  private volatile Predicate<T> compiled;
+
+  PredicateGroup(boolean and, List<Predicate<T>> operands)
+  {
+    this.and = and;
+    this.operands = operands;
+  }
+
+  boolean isAnd()
+  {
+    return this.and;
+  }
+
+  List<Predicate<T>> operands()
+  {
+    return this.operands;
+  }
+
+  @Override
+  public boolean test(T target)
+  {
+    //Only the group a query is evaluated through is compiled; nested groups are compiled into it.
+    Predicate<T> compiled = this.compiled;
+    if (compiled == null) this.compiled = compiled = compile();
+
+    return compiled.test(target);
+  }
+
+  private Predicate<T> compile()
+  {
+    Predicate<T> compiled = PredicateCompiler.compile(this);
+    return compiled != null ? compiled : this::evaluate;
+  }
+
+  private boolean evaluate(T target)
+  {
+    for (Predicate<T> operand : this.operands)
+    {
+      if (operand.test(target) != this.and) return !this.and;
+    }
+
+    return this.and;
+  }
+}
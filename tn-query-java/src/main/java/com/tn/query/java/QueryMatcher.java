@@ -0,0 +1,423 @@
+package com.tn.query.java;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.PredicateFactory;
+import com.tn.query.QueryParseException;
+import com.tn.query.QueryParser;
+
+public class QueryMatcher<T>
+{
+  //Unregistered queries leave a gap in the ids, once more than half the ids are gaps the queries are renumbered.
+  private static final int COMPACT_RATIO = 2;
+  //A range is expected to match more events than a single value, so a query is found by its values rather than its ranges where it can be.
+  private static final int RANGE_COST = 4;
+
+  private final Map<String, Map<Object, IdList>> equalities;
+  private final Map<String, Getter<T>> getters;
+  private final Map<String, Integer> ids;
+  private final ReadWriteLock lock;
+  private final JavaPredicateFactory<T> predicateFactory;
+  private final QueryParser<Plan<T>> queryParser;
+  private final Map<String, Map<Class<?>, IntervalIndex>> ranges;
+  private final List<Subscription<T>> subscriptions;
+
+  private int size;
+  private IdList unindexed;
+
+  public QueryMatcher(@Nonnull Collection<Getter<T>> getters, @Nonnull Collection<Mapper> mappers)
+  {
+    this.equalities = new HashMap<>();
+    this.getters = getters.stream().collect(toMap(Getter::name, getter -> getter));
+    this.ids = new HashMap<>();
+    this.lock = new ReentrantReadWriteLock();
+    this.predicateFactory = new JavaPredicateFactory<>(getters);
+    this.queryParser = new DefaultQueryParser<>(new Planner(), mappers).withOptimizer();
+    this.ranges = new HashMap<>();
+    this.subscriptions = new ArrayList<>();
+    this.unindexed = new IdList();
+  }
+
+  public void register(@Nonnull String subscriptionId, @Nonnull String query) throws QueryParseException
+  {
+    //The query is parsed first, so a query that cannot be parsed leaves any existing registration in place.
+    Plan<T> plan = this.queryParser.parse(query);
+
+    this.lock.writeLock().lock();
+    try
+    {
+      boolean replaced = delete(subscriptionId);
+      insert(new Subscription<>(subscriptionId, plan));
+
+      //Replacing a registration leaves a gap just as unregistering does, so is compacted in the same way.
+      if (replaced && this.subscriptions.size() > this.size * COMPACT_RATIO) compact();
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public boolean unregister(@Nonnull String subscriptionId)
+  {
+    this.lock.writeLock().lock();
+    try
+    {
+      if (!delete(subscriptionId)) return false;
+      if (this.subscriptions.size() > this.size * COMPACT_RATIO) compact();
+
+      return true;
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public int size()
+  {
+    this.lock.readLock().lock();
+    try
+    {
+      return this.size;
+    }
+    finally
+    {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  //The number of ids in use, including the gaps left by unregistered queries.
+  int slots()
+  {
+    this.lock.readLock().lock();
+    try
+    {
+      return this.subscriptions.size();
+    }
+    finally
+    {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public List<String> match(@Nonnull T event)
+  {
+    this.lock.readLock().lock();
+    try
+    {
+      //Queries without an index are always candidates, which also ensures the ids found in the interval indexes are sorted by the union.
+      List<IdList> candidates = new ArrayList<>();
+      candidates.add(this.unindexed);
+
+      for (Map.Entry<String, Map<Object, IdList>> equality : this.equalities.entrySet())
+      {
+        IdList ids = equality.getValue().get(this.getters.get(equality.getKey()).get(event));
+        if (ids != null) candidates.add(ids);
+      }
+
+      for (Map.Entry<String, Map<Class<?>, IntervalIndex>> range : this.ranges.entrySet())
+      {
+        //A null, or a value of another type, cannot be compared with the bounds, so never satisfies a range.
+        Object value = this.getters.get(range.getKey()).get(event);
+        if (value == null) continue;
+
+        IdList found = new IdList();
+        range.getValue().forEach((type, index) ->
+        {
+          if (type.isInstance(value)) index.stab(value, found);
+        });
+
+        if (!found.isEmpty()) candidates.add(found);
+      }
+
+      List<String> matched = new ArrayList<>();
+      for (int id : IdList.union(candidates))
+      {
+        Subscription<T> subscription = this.subscriptions.get(id);
+        if (subscription.plan().predicate().test(event)) matched.add(subscription.subscriptionId());
+      }
+
+      return matched;
+    }
+    finally
+    {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void insert(Subscription<T> subscription)
+  {
+    int id = this.subscriptions.size();
+
+    this.subscriptions.add(subscription);
+    this.ids.put(subscription.subscriptionId(), id);
+    this.size++;
+
+    if (subscription.plan().keys() == null)
+    {
+      this.unindexed.add(id);
+      return;
+    }
+
+    for (Key key : subscription.plan().keys())
+    {
+      if (key.bounds() == null) this.equalities.computeIfAbsent(key.name(), name -> new HashMap<>()).computeIfAbsent(key.value(), value -> new IdList()).add(id);
+      else this.ranges.computeIfAbsent(key.name(), name -> new HashMap<>()).computeIfAbsent(type(key.bounds()), type -> new IntervalIndex()).add(id, key.bounds());
+    }
+  }
+
+  private boolean delete(String subscriptionId)
+  {
+    Integer id = this.ids.remove(subscriptionId);
+    if (id == null) return false;
+
+    Subscription<T> subscription = this.subscriptions.set(id, null);
+    this.size--;
+
+    if (subscription.plan().keys() == null)
+    {
+      this.unindexed.remove(id);
+      return true;
+    }
+
+    for (Key key : subscription.plan().keys())
+    {
+      if (key.bounds() == null)
+      {
+        Map<Object, IdList> values = this.equalities.get(key.name());
+        IdList ids = values.get(key.value());
+        ids.remove(id);
+
+        if (ids.isEmpty()) values.remove(key.value());
+        if (values.isEmpty()) this.equalities.remove(key.name());
+      }
+      else
+      {
+        //An interval index removes every range of a query at once, so later ranges on the same field may already be gone.
+        Map<Class<?>, IntervalIndex> indexes = this.ranges.get(key.name());
+        IntervalIndex index = indexes != null ? indexes.get(type(key.bounds())) : null;
+        if (index == null) continue;
+
+        index.remove(id);
+
+        if (index.isEmpty()) indexes.remove(type(key.bounds()));
+        if (indexes.isEmpty()) this.ranges.remove(key.name());
+      }
+    }
+
+    return true;
+  }
+
+  private void compact()
+  {
+    List<Subscription<T>> subscriptions = new ArrayList<>(this.size);
+    for (Subscription<T> subscription : this.subscriptions) if (subscription != null) subscriptions.add(subscription);
+
+    this.equalities.clear();
+    this.ids.clear();
+    this.ranges.clear();
+    this.subscriptions.clear();
+    this.size = 0;
+    this.unindexed = new IdList();
+
+    for (Subscription<T> subscription : subscriptions) insert(subscription);
+  }
+
+  private static Class<?> type(Bounds bounds)
+  {
+    return bounds.lower() != null ? bounds.lower().getClass() : bounds.upper().getClass();
+  }
+
+  private static int cost(List<Key> keys)
+  {
+    return keys.stream().mapToInt(key -> key.bounds() == null ? 1 : RANGE_COST).sum();
+  }
+
+  private record Subscription<T>(String subscriptionId, Plan<T> plan) {}
+
+  //Keys are conditions an event must meet for the query to match, a query without keys can never match and a query with null keys is tested against every event.
+  private record Plan<T>(Predicate<T> predicate, List<Key> keys) {}
+
+  private record Key(String name, Object value, Bounds bounds) {}
+
+  private class Planner implements PredicateFactory<Plan<T>>
+  {
+    @Override
+    public Plan<T> equal(String left, Object right)
+    {
+      return new Plan<>(predicateFactory().equal(left, right), List.of(new Key(left, right, null)));
+    }
+
+    @Override
+    public Plan<T> notEqual(String left, Object right)
+    {
+      return unindexed(predicateFactory().notEqual(left, right));
+    }
+
+    @Override
+    public Plan<T> greaterThan(String left, Object right)
+    {
+      return range(predicateFactory().greaterThan(left, right), new Bounds(left, right, false, null, false));
+    }
+
+    @Override
+    public Plan<T> greaterThanOrEqual(String left, Object right)
+    {
+      return range(predicateFactory().greaterThanOrEqual(left, right), new Bounds(left, right, true, null, false));
+    }
+
+    @Override
+    public Plan<T> lessThan(String left, Object right)
+    {
+      return range(predicateFactory().lessThan(left, right), new Bounds(left, null, false, right, false));
+    }
+
+    @Override
+    public Plan<T> lessThanOrEqual(String left, Object right)
+    {
+      return range(predicateFactory().lessThanOrEqual(left, right), new Bounds(left, null, false, right, true));
+    }
+
+    @Override
+    public Plan<T> like(String left, Object right)
+    {
+      return unindexed(predicateFactory().like(left, right));
+    }
+
+    @Override
+    public Plan<T> notLike(String left, Object right)
+    {
+      return unindexed(predicateFactory().notLike(left, right));
+    }
+
+    @Override
+    public Plan<T> in(String left, List<?> right)
+    {
+      return new Plan<>(predicateFactory().in(left, right), right.stream().distinct().map(value -> new Key(left, value, null)).toList());
+    }
+
+    @Override
+    public Plan<T> and(Plan<T> left, Plan<T> right)
+    {
+      return and(List.of(left, right));
+    }
+
+    @Override
+    public Plan<T> or(Plan<T> left, Plan<T> right)
+    {
+      return or(List.of(left, right));
+    }
+
+    @Override
+    public Plan<T> and(List<Plan<T>> plans)
+    {
+      //An event matching the && meets the keys of every operand, so the operand whose keys are cheapest to find is used to find the query.
+      return new Plan<>(
+        predicateFactory().and(plans.stream().map(Plan::predicate).toList()),
+        mergeRanges(plans).stream().min(Comparator.comparingInt(QueryMatcher::cost)).orElse(null)
+      );
+    }
+
+    @Override
+    public Plan<T> or(List<Plan<T>> plans)
+    {
+      Predicate<T> predicate = predicateFactory().or(plans.stream().map(Plan::predicate).toList());
+
+      //An operand without keys could match any event, so the whole query is tested against every event.
+      if (plans.stream().anyMatch(plan -> plan.keys() == null)) return unindexed(predicate);
+
+      return new Plan<>(predicate, plans.stream().flatMap(plan -> plan.keys().stream()).distinct().toList());
+    }
+
+    @Override
+    public Plan<T> constant(boolean value)
+    {
+      Predicate<T> predicate = predicateFactory().constant(value);
+      return value ? unindexed(predicate) : new Plan<>(predicate, List.of());
+    }
+
+    @Override
+    public Plan<T> parenthesis(Plan<T> node)
+    {
+      //Parenthesis is handled implicitly when parsing queries.
+      return node;
+    }
+
+    private Plan<T> range(Predicate<T> predicate, Bounds bounds)
+    {
+      return new Plan<>(predicate, List.of(new Key(bounds.name(), null, bounds)));
+    }
+
+    private List<List<Key>> mergeRanges(List<Plan<T>> plans)
+    {
+      //Bounds on the same field are merged, so a field between two values is found with a single interval.
+      Map<String, Bounds> ranges = new LinkedHashMap<>();
+      List<List<Key>> merged = new ArrayList<>(plans.size());
+
+      for (Plan<T> plan : plans)
+      {
+        if (plan.keys() == null) continue;
+
+        Bounds bounds = plan.keys().size() == 1 ? plan.keys().get(0).bounds() : null;
+        if (bounds == null)
+        {
+          merged.add(plan.keys());
+          continue;
+        }
+
+        try
+        {
+          ranges.merge(bounds.name(), bounds, Bounds::intersect);
+        }
+        catch (ClassCastException e)
+        {
+          //Values of different types cannot be merged, the predicates of both fail when tested.
+          merged.add(plan.keys());
+        }
+      }
+
+      for (Bounds bounds : ranges.values()) merged.add(keys(bounds));
+
+      return merged;
+    }
+
+    private List<Key> keys(Bounds bounds)
+    {
+      try
+      {
+        //Bounds that no value can be between, such as a > 5 && a < 3, can never match.
+        return bounds.isEmpty() ? List.of() : List.of(new Key(bounds.name(), null, bounds));
+      }
+      catch (ClassCastException e)
+      {
+        //A lower and upper bound of different types cannot both be compared with any value, so can never match.
+        return List.of();
+      }
+    }
+
+    private Plan<T> unindexed(Predicate<T> predicate)
+    {
+      return new Plan<>(predicate, null);
+    }
+
+    private JavaPredicateFactory<T> predicateFactory()
+    {
+      return QueryMatcher.this.predicateFactory;
+    }
+  }
+}
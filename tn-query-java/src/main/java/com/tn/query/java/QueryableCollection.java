@@ -0,0 +1,518 @@
+package com.tn.query.java;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.PredicateFactory;
+import com.tn.query.QueryException;
+import com.tn.query.QueryParseException;
+import com.tn.query.QueryParser;
+
+public class QueryableCollection<T>
+{
+  //Removed elements leave a gap in the ids, once more than half the ids are gaps the elements are renumbered.
+  private static final int COMPACT_RATIO = 2;
+  //Collecting and sorting the ids of more than a quarter of the elements is slower than testing every element.
+  private static final int SCAN_RATIO = 4;
+
+  private final List<T> elements;
+  private final Map<String, Getter<T>> getters;
+  private final Map<String, ValueIndex<T>> hashIndexes;
+  private final Map<T, IdList> ids;
+  private final ReadWriteLock lock;
+  private final JavaPredicateFactory<T> predicateFactory;
+  private final QueryParser<Plan<T>> queryParser;
+  private final Map<String, ValueIndex<T>> sortedIndexes;
+
+  private int size;
+
+  public QueryableCollection(@Nonnull Collection<Getter<T>> getters, @Nonnull Collection<Mapper> mappers)
+  {
+    this.elements = new ArrayList<>();
+    this.getters = getters.stream().collect(toMap(Getter::name, getter -> getter));
+    this.hashIndexes = new HashMap<>();
+    this.ids = new HashMap<>();
+    this.lock = new ReentrantReadWriteLock();
+    this.predicateFactory = new JavaPredicateFactory<>(getters);
+    this.queryParser = new DefaultQueryParser<>(new Planner(), mappers).withOptimizer();
+    this.sortedIndexes = new HashMap<>();
+  }
+
+  public QueryableCollection<T> withHashIndex(@Nonnull String name)
+  {
+    return withIndex(this.hashIndexes, ValueIndex.hash(getter(name)));
+  }
+
+  public QueryableCollection<T> withSortedIndex(@Nonnull String name)
+  {
+    return withIndex(this.sortedIndexes, ValueIndex.sorted(getter(name)));
+  }
+
+  public void add(@Nonnull T element)
+  {
+    this.lock.writeLock().lock();
+    try
+    {
+      insert(element);
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public void addAll(@Nonnull Collection<? extends T> elements)
+  {
+    this.lock.writeLock().lock();
+    try
+    {
+      int start = this.elements.size();
+
+      try
+      {
+        for (T element : elements) insert(element);
+      }
+      catch (RuntimeException e)
+      {
+        //Elements are only added when every element can be indexed.
+        for (int id = this.elements.size() - 1; id >= start; id--) discard(id);
+        throw e;
+      }
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public boolean remove(@Nonnull T element)
+  {
+    this.lock.writeLock().lock();
+    try
+    {
+      IdList elementIds = this.ids.get(element);
+      if (elementIds == null) return false;
+
+      int id = elementIds.last();
+      elementIds.remove(id);
+      if (elementIds.isEmpty()) this.ids.remove(element);
+
+      T removed = this.elements.set(id, null);
+      for (ValueIndex<T> index : indexes()) index.remove(id, removed);
+
+      this.size--;
+      if (this.elements.size() > this.size * COMPACT_RATIO) compact();
+
+      return true;
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public int size()
+  {
+    this.lock.readLock().lock();
+    try
+    {
+      return this.size;
+    }
+    finally
+    {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  public List<T> findWhere(@Nonnull String query) throws QueryParseException
+  {
+    this.lock.readLock().lock();
+    try
+    {
+      Plan<T> plan = this.queryParser.parse(query);
+      return plan.candidates() != null && plan.estimate().getAsInt() <= this.size / SCAN_RATIO ? find(plan.candidates().get()) : scan(plan.predicate());
+    }
+    finally
+    {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private List<T> find(Candidates<T> candidates)
+  {
+    List<T> found = new ArrayList<>(candidates.ids().length);
+
+    for (int id : candidates.ids())
+    {
+      T element = this.elements.get(id);
+      if (candidates.residual() == null || candidates.residual().test(element)) found.add(element);
+    }
+
+    return found;
+  }
+
+  private List<T> scan(Predicate<T> predicate)
+  {
+    List<T> found = new ArrayList<>();
+
+    for (T element : this.elements)
+    {
+      if (element != null && predicate.test(element)) found.add(element);
+    }
+
+    return found;
+  }
+
+  private QueryableCollection<T> withIndex(Map<String, ValueIndex<T>> indexes, ValueIndex<T> index)
+  {
+    this.lock.writeLock().lock();
+    try
+    {
+      for (int id = 0; id < this.elements.size(); id++)
+      {
+        T element = this.elements.get(id);
+        if (element != null) index.add(id, element);
+      }
+
+      indexes.put(index.name(), index);
+      return this;
+    }
+    finally
+    {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private void insert(T element)
+  {
+    int id = this.elements.size();
+    List<ValueIndex<T>> indexed = new ArrayList<>();
+
+    try
+    {
+      for (ValueIndex<T> index : indexes())
+      {
+        index.add(id, element);
+        indexed.add(index);
+      }
+    }
+    catch (RuntimeException e)
+    {
+      //An element that cannot be indexed is not added, so it is removed from the indexes it was already added to.
+      for (ValueIndex<T> index : indexed) index.remove(id, element);
+      throw e;
+    }
+
+    this.elements.add(element);
+    this.ids.computeIfAbsent(element, key -> new IdList()).add(id);
+    this.size++;
+  }
+
+  private void discard(int id)
+  {
+    T element = this.elements.remove(id);
+    for (ValueIndex<T> index : indexes()) index.remove(id, element);
+
+    IdList elementIds = this.ids.get(element);
+    elementIds.remove(id);
+    if (elementIds.isEmpty()) this.ids.remove(element);
+
+    this.size--;
+  }
+
+  private void compact()
+  {
+    List<T> elements = new ArrayList<>(this.size);
+    for (T element : this.elements) if (element != null) elements.add(element);
+
+    this.elements.clear();
+    this.ids.clear();
+    this.size = 0;
+
+    this.hashIndexes.replaceAll((name, index) -> ValueIndex.hash(index.getter()));
+    this.sortedIndexes.replaceAll((name, index) -> ValueIndex.sorted(index.getter()));
+
+    for (T element : elements) insert(element);
+  }
+
+  private List<ValueIndex<T>> indexes()
+  {
+    List<ValueIndex<T>> indexes = new ArrayList<>(this.hashIndexes.values());
+    indexes.addAll(this.sortedIndexes.values());
+
+    return indexes;
+  }
+
+  private Getter<T> getter(String name)
+  {
+    Getter<T> getter = this.getters.get(name);
+    if (getter == null) throw new QueryException("Getter missing for: " + name);
+
+    return getter;
+  }
+
+  private record Plan<T>(Predicate<T> predicate, Supplier<Candidates<T>> candidates, IntSupplier estimate, Bounds bounds)
+  {
+    Plan(Predicate<T> predicate, Supplier<Candidates<T>> candidates, IntSupplier estimate)
+    {
+      this(predicate, candidates, estimate, null);
+    }
+  }
+
+  private record Candidates<T>(int[] ids, Predicate<T> residual) {}
+
+  private class Planner implements PredicateFactory<Plan<T>>
+  {
+    @Override
+    public Plan<T> equal(String left, Object right)
+    {
+      Predicate<T> predicate = predicateFactory().equal(left, right);
+
+      ValueIndex<T> index = equalityIndex(left);
+      if (index == null) return scan(predicate);
+
+      //Sorted indexes find values with compareTo, which may not agree with equals, so those candidates are tested again.
+      Predicate<T> residual = index.isSorted() ? predicate : null;
+      return new Plan<>(predicate, () -> new Candidates<>(index.equal(right), residual), () -> index.count(right));
+    }
+
+    @Override
+    public Plan<T> notEqual(String left, Object right)
+    {
+      return scan(predicateFactory().notEqual(left, right));
+    }
+
+    @Override
+    public Plan<T> greaterThan(String left, Object right)
+    {
+      return range(left, predicateFactory().greaterThan(left, right), right, false, null, false);
+    }
+
+    @Override
+    public Plan<T> greaterThanOrEqual(String left, Object right)
+    {
+      return range(left, predicateFactory().greaterThanOrEqual(left, right), right, true, null, false);
+    }
+
+    @Override
+    public Plan<T> lessThan(String left, Object right)
+    {
+      return range(left, predicateFactory().lessThan(left, right), null, false, right, false);
+    }
+
+    @Override
+    public Plan<T> lessThanOrEqual(String left, Object right)
+    {
+      return range(left, predicateFactory().lessThanOrEqual(left, right), null, false, right, true);
+    }
+
+    @Override
+    public Plan<T> like(String left, Object right)
+    {
+      return scan(predicateFactory().like(left, right));
+    }
+
+    @Override
+    public Plan<T> notLike(String left, Object right)
+    {
+      return scan(predicateFactory().notLike(left, right));
+    }
+
+    @Override
+    public Plan<T> in(String left, List<?> right)
+    {
+      Predicate<T> predicate = predicateFactory().in(left, right);
+
+      ValueIndex<T> index = equalityIndex(left);
+      if (index == null) return scan(predicate);
+
+      Predicate<T> residual = index.isSorted() ? predicate : null;
+      return new Plan<>(predicate, () -> new Candidates<>(index.in(right), residual), () -> index.count(right));
+    }
+
+    @Override
+    public Plan<T> and(Plan<T> left, Plan<T> right)
+    {
+      return and(List.of(left, right));
+    }
+
+    @Override
+    public Plan<T> or(Plan<T> left, Plan<T> right)
+    {
+      return or(List.of(left, right));
+    }
+
+    @Override
+    public Plan<T> and(List<Plan<T>> plans)
+    {
+      Predicate<T> predicate = predicateFactory().and(predicates(plans));
+
+      List<Plan<T>> operands = mergeRanges(plans);
+      List<Plan<T>> indexed = operands.stream().filter(plan -> plan.candidates() != null).toList();
+      if (indexed.isEmpty()) return scan(predicate);
+
+      return new Plan<>(
+        predicate,
+        () ->
+        {
+          //The operand expected to find the fewest candidates drives the search, the other operands are tested against its candidates.
+          Plan<T> driver = driver(indexed);
+          Candidates<T> candidates = driver.candidates().get();
+
+          List<Predicate<T>> residuals = new ArrayList<>(operands.size());
+          if (candidates.residual() != null) residuals.add(candidates.residual());
+          for (Plan<T> plan : operands) if (plan != driver) residuals.add(plan.predicate());
+
+          return new Candidates<>(candidates.ids(), residuals.isEmpty() ? null : predicateFactory().and(residuals));
+        },
+        () -> indexed.stream().mapToInt(plan -> plan.estimate().getAsInt()).min().orElseThrow()
+      );
+    }
+
+    @Override
+    public Plan<T> or(List<Plan<T>> plans)
+    {
+      Predicate<T> predicate = predicateFactory().or(predicates(plans));
+
+      //Elements matching an operand without an index could be anywhere, so the whole collection is scanned.
+      if (plans.stream().anyMatch(plan -> plan.candidates() == null)) return scan(predicate);
+
+      return new Plan<>(
+        predicate,
+        () ->
+        {
+          int[] ids = IdList.EMPTY;
+          boolean exact = true;
+
+          for (Plan<T> plan : plans)
+          {
+            Candidates<T> candidates = plan.candidates().get();
+            ids = IdList.union(ids, candidates.ids());
+            exact &= candidates.residual() == null;
+          }
+
+          return new Candidates<>(ids, exact ? null : predicate);
+        },
+        () -> plans.stream().mapToInt(plan -> plan.estimate().getAsInt()).sum()
+      );
+    }
+
+    @Override
+    public Plan<T> constant(boolean value)
+    {
+      Predicate<T> predicate = predicateFactory().constant(value);
+      return value ? scan(predicate) : new Plan<>(predicate, () -> new Candidates<>(IdList.EMPTY, null), () -> 0);
+    }
+
+    @Override
+    public Plan<T> parenthesis(Plan<T> node)
+    {
+      //Parenthesis is handled implicitly when parsing queries.
+      return node;
+    }
+
+    private Plan<T> range(String left, Predicate<T> predicate, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive)
+    {
+      //Comparing a null value fails when predicates are tested, so ranges over an index with nulls are scanned and fail only where the scan would.
+      ValueIndex<T> index = sortedIndexes.get(left);
+      return index != null && !index.hasNulls() ? range(index, predicate, new Bounds(left, lower, lowerInclusive, upper, upperInclusive)) : scan(predicate);
+    }
+
+    private Plan<T> range(ValueIndex<T> index, Predicate<T> predicate, Bounds bounds)
+    {
+      return new Plan<>(
+        predicate,
+        () -> new Candidates<>(index.ids(bounds.lower(), bounds.lowerInclusive(), bounds.upper(), bounds.upperInclusive()), null),
+        () -> index.count(bounds.lower(), bounds.lowerInclusive(), bounds.upper(), bounds.upperInclusive()),
+        bounds
+      );
+    }
+
+    private List<Plan<T>> mergeRanges(List<Plan<T>> plans)
+    {
+      //Bounds on the same field are merged, so a field between two values is found with a single walk of its index.
+      Map<String, Plan<T>> ranges = new LinkedHashMap<>();
+      List<Plan<T>> merged = new ArrayList<>(plans.size());
+
+      for (Plan<T> plan : plans)
+      {
+        if (plan.bounds() == null)
+        {
+          merged.add(plan);
+          continue;
+        }
+
+        Plan<T> range = ranges.get(plan.bounds().name());
+
+        try
+        {
+          ranges.put(
+            plan.bounds().name(),
+            range == null ? plan : range(sortedIndexes.get(plan.bounds().name()), predicateFactory().and(range.predicate(), plan.predicate()), range.bounds().intersect(plan.bounds()))
+          );
+        }
+        catch (ClassCastException e)
+        {
+          //Values of different types cannot be merged, the predicates of both fail when tested.
+          merged.add(plan);
+        }
+      }
+
+      merged.addAll(ranges.values());
+      return merged;
+    }
+
+    private Plan<T> driver(List<Plan<T>> plans)
+    {
+      Plan<T> driver = null;
+      int driverEstimate = Integer.MAX_VALUE;
+
+      for (Plan<T> plan : plans)
+      {
+        int estimate = plan.estimate().getAsInt();
+        if (driver == null || estimate < driverEstimate)
+        {
+          driver = plan;
+          driverEstimate = estimate;
+        }
+      }
+
+      return driver;
+    }
+
+    private Plan<T> scan(Predicate<T> predicate)
+    {
+      return new Plan<>(predicate, null, null);
+    }
+
+    private ValueIndex<T> equalityIndex(String left)
+    {
+      ValueIndex<T> index = hashIndexes.get(left);
+      return index != null ? index : sortedIndexes.get(left);
+    }
+
+    private JavaPredicateFactory<T> predicateFactory()
+    {
+      return QueryableCollection.this.predicateFactory;
+    }
+
+    private List<Predicate<T>> predicates(List<Plan<T>> plans)
+    {
+      return plans.stream().map(Plan::predicate).toList();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.tn.query.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.tn.query.QueryException;
+
+final class ValueIndex<T>
+{
+  private final Getter<T> getter;
+  private final IdList nulls;
+  private final Map<Object, IdList> postings;
+  private int size;
+
+  private ValueIndex(Getter<T> getter, Map<Object, IdList> postings)
+  {
+    this.getter = getter;
+    this.nulls = new IdList();
+    this.postings = postings;
+  }
+
+  static <T> ValueIndex<T> hash(Getter<T> getter)
+  {
+    return new ValueIndex<>(getter, new HashMap<>());
+  }
+
+  static <T> ValueIndex<T> sorted(Getter<T> getter)
+  {
+    return new ValueIndex<>(getter, new TreeMap<>(ValueIndex::compare));
+  }
+
+  Getter<T> getter()
+  {
+    return this.getter;
+  }
+
+  String name()
+  {
+    return this.getter.name();
+  }
+
+  boolean isSorted()
+  {
+    return this.postings instanceof NavigableMap;
+  }
+
+  boolean hasNulls()
+  {
+    return !this.nulls.isEmpty();
+  }
+
+  int size()
+  {
+    return this.size;
+  }
+
+  void add(int id, T element)
+  {
+    Object value = this.getter.get(element);
+
+    if (value == null) this.nulls.add(id);
+    else postings(value).add(id);
+
+    this.size++;
+  }
+
+  void remove(int id, T element)
+  {
+    Object value = this.getter.get(element);
+    IdList ids = value == null ? this.nulls : this.postings.get(value);
+    if (ids == null || !ids.remove(id)) return;
+
+    if (ids.isEmpty() && value != null) this.postings.remove(value);
+    this.size--;
+  }
+
+  int count(Object value)
+  {
+    IdList ids = get(value);
+    return ids != null ? ids.size() : 0;
+  }
+
+  int count(Collection<?> values)
+  {
+    int count = 0;
+    for (Object value : new HashSet<>(values)) count += count(value);
+
+    return count;
+  }
+
+  int[] equal(Object value)
+  {
+    IdList ids = get(value);
+    return ids != null ? ids.toArray() : IdList.EMPTY;
+  }
+
+  int[] in(Collection<?> values)
+  {
+    List<IdList> lists = new ArrayList<>(values.size());
+    for (Object value : new HashSet<>(values))
+    {
+      IdList ids = get(value);
+      if (ids != null) lists.add(ids);
+    }
+
+    return IdList.union(lists);
+  }
+
+  int count(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive)
+  {
+    int count = 0;
+    for (IdList ids : range(lower, lowerInclusive, upper, upperInclusive).values()) count += ids.size();
+
+    return count;
+  }
+
+  int[] ids(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive)
+  {
+    return IdList.union(range(lower, lowerInclusive, upper, upperInclusive).values());
+  }
+
+  private NavigableMap<Object, IdList> range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive)
+  {
+    //Ranges over an index with nulls are planned as scans, this only guards against silently skipping the nulls.
+    if (hasNulls()) throw new QueryException("Cannot compare: null");
+
+    NavigableMap<Object, IdList> postings = (NavigableMap<Object, IdList>)this.postings;
+
+    try
+    {
+      if (lower != null && upper != null && isEmpty(compare(lower, upper), lowerInclusive && upperInclusive)) return Collections.emptyNavigableMap();
+
+      NavigableMap<Object, IdList> range = lower == null ? postings : postings.tailMap(lower, lowerInclusive);
+      return upper == null ? range : range.headMap(upper, upperInclusive);
+    }
+    catch (ClassCastException e)
+    {
+      throw new QueryException("Type mismatch: " + this.getter.name() + " and " + (lower != null ? lower : upper));
+    }
+  }
+
+  private IdList get(Object value)
+  {
+    if (value == null) return this.nulls;
+
+    try
+    {
+      return this.postings.get(value);
+    }
+    catch (ClassCastException e)
+    {
+      //Values of another type can never be equal.
+      return null;
+    }
+  }
+
+  private IdList postings(Object value)
+  {
+    try
+    {
+      return this.postings.computeIfAbsent(value, key -> new IdList());
+    }
+    catch (ClassCastException e)
+    {
+      throw new QueryException("Cannot index " + this.getter.name() + ": " + value);
+    }
+  }
+
+  private static boolean isEmpty(int comparison, boolean inclusive)
+  {
+    return comparison > 0 || (comparison == 0 && !inclusive);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object left, Object right)
+  {
+    return ((Comparable<Object>)left).compareTo(right);
+  }
+}
@@ -0,0 +1,219 @@
+package com.tn.query.java;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+//Only loaded when the jdk.incubator.vector module is present, see ColumnarPredicateFactory.
+final class VectorKernels
+{
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  //Each lane holds the bit for its own position, so a mask can be turned into bits with a blend and a reduction.
+  private static final IntVector INT_BITS = IntVector.broadcast(INTS, 1).lanewise(VectorOperators.LSHL, IntVector.zero(INTS).addIndex(1));
+  private static final LongVector LONG_BITS = LongVector.broadcast(LONGS, 1L).lanewise(VectorOperators.LSHL, LongVector.zero(LONGS).addIndex(1));
+  //Beyond this many values a hash lookup per row is cheaper than a lane-wise comparison per value.
+  private static final int MAX_IN_VALUES = 8;
+  private static final int WORD_MASK = 63;
+  private static final int WORD_SHIFT = 6;
+
+  private VectorKernels() {}
+
+  //Every species has a power of two lanes, at most 64, so each vector's mask fits within a single word.
+
+  static long[] compare(int[] values, int size, int value, int min, int max)
+  {
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = INTS.loopBound(size); i < bound; i += INTS.length())
+    {
+      words[i >>> WORD_SHIFT] |= intBits(compare(IntVector.fromArray(INTS, values, i), value, min, max)) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (isBetween(Integer.compare(values[i], value), min, max)) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] compare(long[] values, int size, long value, int min, int max)
+  {
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length())
+    {
+      words[i >>> WORD_SHIFT] |= longBits(compare(LongVector.fromArray(LONGS, values, i), value, min, max)) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (isBetween(Long.compare(values[i], value), min, max)) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] compare(double[] values, int size, double value, int min, int max)
+  {
+    //Lanes compare as IEEE 754 where Double.compare orders -0.0 before 0.0, these values are left to the scalar kernel.
+    if (Double.isNaN(value) || value == 0) return ColumnKernels.compare(values, size, value, min, max);
+
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length())
+    {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      VectorMask<Double> mask = compare(vector, value, min, max);
+
+      //Double.compare orders NaN after every other value, where every IEEE 754 comparison with NaN is false.
+      if (max > 0) mask = mask.or(vector.test(VectorOperators.IS_NAN));
+
+      words[i >>> WORD_SHIFT] |= doubleBits(mask) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (isBetween(Double.compare(values[i], value), min, max)) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(int[] values, int size, long[] candidates, LongHashSet set)
+  {
+    if (candidates.length > MAX_IN_VALUES) return ColumnKernels.in(values, size, set);
+
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = INTS.loopBound(size); i < bound; i += INTS.length())
+    {
+      IntVector vector = IntVector.fromArray(INTS, values, i);
+      VectorMask<Integer> mask = INTS.maskAll(false);
+      for (long candidate : candidates) mask = mask.or(vector.eq((int)candidate));
+
+      words[i >>> WORD_SHIFT] |= intBits(mask) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (set.contains(values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(long[] values, int size, long[] candidates, LongHashSet set)
+  {
+    if (candidates.length > MAX_IN_VALUES) return ColumnKernels.in(values, size, set);
+
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length())
+    {
+      LongVector vector = LongVector.fromArray(LONGS, values, i);
+      VectorMask<Long> mask = LONGS.maskAll(false);
+      for (long candidate : candidates) mask = mask.or(vector.eq(candidate));
+
+      words[i >>> WORD_SHIFT] |= longBits(mask) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (set.contains(values[i])) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  static long[] in(double[] values, int size, long[] candidates, LongHashSet set)
+  {
+    //Candidates are the bits of each value, as Double.equals compares them, which lanes only agree with for values other than NaN and zero.
+    if (candidates.length > MAX_IN_VALUES || !isLaneComparable(candidates)) return ColumnKernels.in(values, size, set);
+
+    long[] words = ColumnKernels.none(size);
+
+    int i = 0;
+    for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length())
+    {
+      DoubleVector vector = DoubleVector.fromArray(DOUBLES, values, i);
+      VectorMask<Double> mask = DOUBLES.maskAll(false);
+      for (long candidate : candidates) mask = mask.or(vector.eq(Double.longBitsToDouble(candidate)));
+
+      words[i >>> WORD_SHIFT] |= doubleBits(mask) << (i & WORD_MASK);
+    }
+
+    for (; i < size; i++)
+    {
+      if (set.contains(Double.doubleToLongBits(values[i]))) words[i >>> WORD_SHIFT] |= 1L << i;
+    }
+
+    return words;
+  }
+
+  //VectorMask.toLong is not an intrinsic before JDK 18, where a blend and an OR reduction are.
+
+  private static long intBits(VectorMask<Integer> mask)
+  {
+    return IntVector.zero(INTS).blend(INT_BITS, mask).reduceLanes(VectorOperators.OR);
+  }
+
+  private static long longBits(VectorMask<Long> mask)
+  {
+    return LongVector.zero(LONGS).blend(LONG_BITS, mask).reduceLanes(VectorOperators.OR);
+  }
+
+  private static long doubleBits(VectorMask<Double> mask)
+  {
+    return longBits(mask.cast(LONGS));
+  }
+
+  //Operators are only intrinsified when they are constants, so each comparison has its own call.
+
+  private static VectorMask<Integer> compare(IntVector vector, int value, int min, int max)
+  {
+    if (min == max) return min < 0 ? vector.lt(value) : min > 0 ? vector.compare(VectorOperators.GT, value) : vector.eq(value);
+
+    return min < 0 ? vector.compare(VectorOperators.LE, value) : vector.compare(VectorOperators.GE, value);
+  }
+
+  private static VectorMask<Long> compare(LongVector vector, long value, int min, int max)
+  {
+    if (min == max) return min < 0 ? vector.lt(value) : min > 0 ? vector.compare(VectorOperators.GT, value) : vector.eq(value);
+
+    return min < 0 ? vector.compare(VectorOperators.LE, value) : vector.compare(VectorOperators.GE, value);
+  }
+
+  private static VectorMask<Double> compare(DoubleVector vector, double value, int min, int max)
+  {
+    if (min == max) return min < 0 ? vector.lt(value) : min > 0 ? vector.compare(VectorOperators.GT, value) : vector.eq(value);
+
+    return min < 0 ? vector.compare(VectorOperators.LE, value) : vector.compare(VectorOperators.GE, value);
+  }
+
+  private static boolean isBetween(int comparison, int min, int max)
+  {
+    return comparison >= min && comparison <= max;
+  }
+
+  private static boolean isLaneComparable(long[] candidates)
+  {
+    for (long candidate : candidates)
+    {
+      double value = Double.longBitsToDouble(candidate);
+      if (Double.isNaN(value) || value == 0) return false;
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,146 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryException;
+import com.tn.query.QueryParser;
+
+class AdaptivePredicateFactoryTest
+{
+  private static final List<Getter<int[]>> GETTERS = List.of(
+    Getter.primitiveInt("a", target -> target[0]),
+    Getter.primitiveInt("b", target -> target[1]),
+    Getter.primitiveInt("c", target -> target[2])
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("a"), Mapper.toInt("b"), Mapper.toInt("c"));
+  //Enough tests for the operands to be sampled and re-ordered several times.
+  private static final int TESTS = 100_000;
+  private static final int THREADS = 4;
+
+  private static volatile double sink;
+
+  @Test
+  void shouldMatchLambdas()
+  {
+    QueryParser<Predicate<int[]>> adaptive = new DefaultQueryParser<>(new AdaptivePredicateFactory<>(GETTERS), MAPPERS);
+    QueryParser<Predicate<int[]>> lambdas = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    for (String query : List.of(
+      "a = 1 && b = 1 && c = 1",
+      "a = 1 || b = 1 || c = 1",
+      "(a = 1 || b = 0) && (b != 1 || c > 1)",
+      "(a = 1 && b = 1) || (b = 0 && c = 1) || a ∈ [0, 2]"
+    ))
+    {
+      Predicate<int[]> expected = lambdas.parse(query);
+      Predicate<int[]> actual = adaptive.parse(query);
+
+      for (int i = 0; i < TESTS; i++)
+      {
+        int[] target = {i % 3, i / 3 % 3, i / 9 % 3};
+        assertEquals(expected.test(target), actual.test(target), query);
+      }
+    }
+  }
+
+  @Test
+  void shouldMoveCheapSelectiveOperandFirstInAnd()
+  {
+    Predicate<Integer> expensive = AdaptivePredicateFactoryTest::expensive;
+    Predicate<Integer> selective = target -> target % 100 == 0;
+    AdaptivePredicateGroup<Integer> group = new AdaptivePredicateGroup<>(true, List.of(expensive, selective));
+
+    for (int i = 0; i < TESTS; i++) assertEquals(i % 100 == 0, group.test(i));
+
+    assertSame(selective, group.operands().get(0));
+  }
+
+  @Test
+  void shouldMoveCheapSelectiveOperandFirstInOr()
+  {
+    Predicate<Integer> expensive = target -> !expensive(target);
+    Predicate<Integer> selective = target -> target % 100 != 0;
+    AdaptivePredicateGroup<Integer> group = new AdaptivePredicateGroup<>(false, List.of(expensive, selective));
+
+    for (int i = 0; i < TESTS; i++) assertEquals(i % 100 != 0, group.test(i));
+
+    assertSame(selective, group.operands().get(0));
+  }
+
+  @Test
+  void shouldKeepGuardedOperandsInOrder()
+  {
+    //The second operand fails for every target the first excludes, as a comparison with a null field would.
+    Predicate<Integer> guard = target -> target % 100 != 0;
+    Predicate<Integer> guarded = target ->
+    {
+      if (target % 100 == 0) throw new QueryException("Cannot compare: null");
+      return target % 2 == 0;
+    };
+    AdaptivePredicateGroup<Integer> group = new AdaptivePredicateGroup<>(true, List.of(AdaptivePredicateFactoryTest::expensive, guard, guarded));
+
+    for (int i = 0; i < TESTS; i++) assertEquals(i % 100 != 0 && i % 2 == 0, group.test(i));
+
+    assertSame(guarded, group.operands().get(2));
+  }
+
+  @Test
+  void shouldKeepReorderingWhenTestedConcurrently() throws Exception
+  {
+    AtomicBoolean swapped = new AtomicBoolean();
+    Predicate<Integer> first = target -> swapped.get() || target % 100 == 0;
+    Predicate<Integer> second = target -> !swapped.get() || target % 100 == 0;
+    AdaptivePredicateGroup<Integer> group = new AdaptivePredicateGroup<>(true, List.of(second, first));
+
+    List<Thread> threads = IntStream.range(0, THREADS).mapToObj(thread -> new Thread(() -> { for (int i = 0; i < TESTS; i++) group.test(i); })).toList();
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) thread.join();
+
+    assertSame(first, group.operands().get(0));
+
+    //However the threads interleaved while sampling, the group still re-orders once the selective operand changes.
+    swapped.set(true);
+    for (int i = 0; i < TESTS * 50; i++) group.test(i);
+
+    assertSame(second, group.operands().get(0));
+  }
+
+  @Test
+  void shouldFailLikeQueryOrder()
+  {
+    AdaptivePredicateGroup<Integer> group = new AdaptivePredicateGroup<>(true, List.of(target -> true, target -> { throw new QueryException("Failed"); }));
+
+    for (int i = 0; i < 1000; i++) assertThrows(QueryException.class, () -> group.test(1));
+  }
+
+  @Test
+  void shouldFlattenNestedGroups()
+  {
+    AdaptivePredicateFactory<int[]> predicateFactory = new AdaptivePredicateFactory<>(GETTERS);
+    Predicate<int[]> predicate = predicateFactory.and(predicateFactory.and(predicateFactory.equal("a", 1), predicateFactory.equal("b", 1)), predicateFactory.equal("c", 1));
+
+    assertEquals(3, ((AdaptivePredicateGroup<int[]>)predicate).operands().size());
+    assertFalse(predicate.test(new int[]{1, 1, 0}));
+  }
+
+  private static boolean expensive(Integer target)
+  {
+    double value = 0;
+    for (int i = 0; i < 500; i++) value += Math.sqrt(target + i);
+    sink = value;
+
+    return true;
+  }
+}
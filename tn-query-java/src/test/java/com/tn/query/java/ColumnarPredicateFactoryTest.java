@@ -0,0 +1,164 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryException;
+import com.tn.query.QueryParser;
+
+class ColumnarPredicateFactoryTest
+{
+  private static final List<Getter<Row>> GETTERS = List.of(
+    Getter.primitiveInt("a", Row::a),
+    Getter.primitiveLong("b", Row::b),
+    Getter.primitiveDouble("c", Row::c),
+    Getter.comparableValue("d", Row::d)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("a"), Mapper.toLong("b"), Mapper.toDouble("c"), Mapper.toString("d"));
+  //Larger than two words, and not a multiple of the word size, so partial words are covered.
+  private static final int SIZE = 150;
+
+  @Test
+  void shouldMatchJavaPredicates()
+  {
+    shouldMatchJavaPredicates(new ColumnarPredicateFactory(false));
+  }
+
+  @Test
+  void shouldMatchJavaPredicatesVectorized()
+  {
+    //The build adds jdk.incubator.vector to the test JVM.
+    ColumnarPredicateFactory predicateFactory = new ColumnarPredicateFactory();
+
+    assertTrue(predicateFactory.isVectorized());
+    shouldMatchJavaPredicates(predicateFactory);
+  }
+
+  private void shouldMatchJavaPredicates(ColumnarPredicateFactory predicateFactory)
+  {
+    QueryParser<ColumnPredicate> columnar = new DefaultQueryParser<>(predicateFactory, MAPPERS);
+    QueryParser<Predicate<Row>> java = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    Row[] rows = new Row[SIZE];
+    int[] a = new int[SIZE];
+    long[] b = new long[SIZE];
+    double[] c = new double[SIZE];
+    String[] d = new String[SIZE];
+
+    for (int i = 0; i < SIZE; i++)
+    {
+      rows[i] = new Row(i % 7, i % 11 - 5L, i % 17 == 0 ? Double.NaN : i % 19 == 0 ? -0.0 : i / 10.0, "v" + i % 13);
+      a[i] = rows[i].a();
+      b[i] = rows[i].b();
+      c[i] = rows[i].c();
+      d[i] = rows[i].d();
+    }
+
+    ColumnBatch batch = new ColumnBatch(SIZE).withColumn("a", a).withColumn("b", b).withColumn("c", c).withColumn("d", d);
+
+    for (String query : List.of(
+      "a = 3",
+      "a != 3",
+      "a > 3",
+      "a >= 3",
+      "a < 3",
+      "a <= 3",
+      "b = -2",
+      "b < 0",
+      "c >= 7.5",
+      "c != 2.0",
+      "c > 3.0",
+      "c <= 3.0",
+      "c = 0.0",
+      "c >= 0.0",
+      "c < NaN",
+      "d = v3",
+      "d != v3",
+      "d > v5",
+      "d ≈ v1*",
+      "d !≈ *2",
+      "a ∈ [1, 3, 5]",
+      "b ∈ [-5, 5]",
+      "c ∈ [1.0, 2.5, 14.9]",
+      "c ∈ [0.0, NaN]",
+      "a ∈ [0, 1, 2, 3, 4, 5, 6, 7, 8, 9]",
+      "d ∈ [v1, v12]",
+      "a = 1 && b < 0",
+      "a = 1 || d = v4",
+      "(a > 2 && c < 5.0) || (b ∈ [0, 1] && d ≈ v1*)",
+      "a = 100 && b = 0",
+      "a >= 0 || b = 0"
+    ))
+    {
+      Predicate<Row> predicate = java.parse(query);
+      BitSet expected = new BitSet();
+      for (int i = 0; i < SIZE; i++) if (predicate.test(rows[i])) expected.set(i);
+
+      assertEquals(expected, columnar.parse(query).evaluate(batch), query);
+    }
+  }
+
+  @Test
+  void shouldEvaluateConstant()
+  {
+    ColumnarPredicateFactory predicateFactory = new ColumnarPredicateFactory();
+    ColumnBatch batch = new ColumnBatch(SIZE);
+
+    BitSet all = new BitSet();
+    all.set(0, SIZE);
+
+    assertEquals(all, predicateFactory.constant(true).evaluate(batch));
+    assertEquals(new BitSet(), predicateFactory.constant(false).evaluate(batch));
+  }
+
+  @Test
+  void shouldNotMatchOtherTypes()
+  {
+    ColumnarPredicateFactory predicateFactory = new ColumnarPredicateFactory();
+    ColumnBatch batch = new ColumnBatch(2).withColumn("a", new int[]{1, 2});
+
+    BitSet all = new BitSet();
+    all.set(0, 2);
+
+    assertEquals(new BitSet(), predicateFactory.equal("a", 1L).evaluate(batch));
+    assertEquals(all, predicateFactory.notEqual("a", 1L).evaluate(batch));
+    assertEquals(new BitSet(), predicateFactory.in("a", List.of(1L, "1")).evaluate(batch));
+  }
+
+  @Test
+  void shouldNotCompareOtherTypes()
+  {
+    ColumnarPredicateFactory predicateFactory = new ColumnarPredicateFactory();
+    ColumnBatch batch = new ColumnBatch(2).withColumn("a", new int[]{1, 2}).withColumn("b", new Object[]{1, null});
+
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("a", 1L).evaluate(batch));
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("b", "1").evaluate(batch));
+    assertThrows(QueryException.class, () -> predicateFactory.lessThan("b", 2).evaluate(batch));
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("a", new Object()));
+    assertThrows(QueryException.class, () -> predicateFactory.like("a", "1*").evaluate(batch));
+    assertThrows(QueryException.class, () -> predicateFactory.like("a", 1));
+  }
+
+  @Test
+  void shouldNotEvaluateMissingColumn()
+  {
+    assertThrows(QueryException.class, () -> new ColumnarPredicateFactory().equal("a", 1).evaluate(new ColumnBatch(1)));
+  }
+
+  @Test
+  void shouldNotAcceptShortColumn()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new ColumnBatch(2).withColumn("a", new int[1]));
+  }
+
+  private record Row(int a, long b, double c, String d) {}
+}
@@ -0,0 +1,95 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryException;
+import com.tn.query.QueryParser;
+
+class CompiledPredicateFactoryTest
+{
+  private static final List<Getter<int[]>> GETTERS = List.of(
+    Getter.primitiveInt("a", target -> target[0]),
+    Getter.primitiveInt("b", target -> target[1]),
+    Getter.primitiveInt("c", target -> target[2])
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("a"), Mapper.toInt("b"), Mapper.toInt("c"));
+
+  @Test
+  void shouldMatchLikeLambdas()
+  {
+    QueryParser<Predicate<int[]>> compiled = new DefaultQueryParser<>(new CompiledPredicateFactory<>(GETTERS), MAPPERS);
+    QueryParser<Predicate<int[]>> lambdas = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    for (String query : List.of(
+      "a = 1 && b = 1",
+      "a = 1 || b = 1",
+      "a = 1 && b = 1 && c = 1",
+      "a = 1 || b = 1 || c = 1",
+      "a = 1 && b = 1 || c = 1",
+      "a = 1 || b = 1 && c = 1",
+      "(a = 1 || b = 1) && (b = 0 || c = 1)",
+      "(a = 1 && b = 1) || (b = 0 && c = 1)",
+      "((a = 1 || (b = 0 && c != 1)) && a ∈ [0, 1]) || c > 1"
+    ))
+    {
+      for (int a = 0; a < 3; a++)
+      {
+        for (int b = 0; b < 3; b++)
+        {
+          for (int c = 0; c < 3; c++)
+          {
+            int[] target = {a, b, c};
+            assertEquals(lambdas.parse(query).test(target), compiled.parse(query).test(target), query + " with " + a + ", " + b + ", " + c);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldShortCircuit()
+  {
+    CompiledPredicateFactory<Object> predicateFactory = new CompiledPredicateFactory<>(List.of());
+    Predicate<Object> failing = target -> { throw new IllegalStateException(); };
+
+    assertFalse(predicateFactory.and(target -> false, failing).test(new Object()));
+    assertTrue(predicateFactory.or(target -> true, failing).test(new Object()));
+    assertThrows(IllegalStateException.class, () -> predicateFactory.and(target -> true, failing).test(new Object()));
+  }
+
+  @Test
+  void shouldMatchLargeGroups()
+  {
+    CompiledPredicateFactory<Integer> predicateFactory = new CompiledPredicateFactory<>(List.of(Getter.primitiveInt("value", target -> target)));
+    Predicate<Integer> predicate = predicateFactory.or(IntStream.range(0, 1000).mapToObj(i -> predicateFactory.equal("value", i)).toList());
+
+    assertTrue(predicate.test(999));
+    assertFalse(predicate.test(1000));
+  }
+
+  @Test
+  void shouldReturnConstants()
+  {
+    CompiledPredicateFactory<Object> predicateFactory = new CompiledPredicateFactory<>(List.of());
+
+    assertTrue(JavaPredicateFactory.isAlwaysTrue(predicateFactory.constant(true)));
+    assertTrue(JavaPredicateFactory.isAlwaysFalse(predicateFactory.constant(false)));
+  }
+
+  @Test
+  void shouldFailWhenGetterMissing()
+  {
+    assertThrows(QueryException.class, () -> new CompiledPredicateFactory<>(GETTERS).equal("Missing", 1));
+  }
+}
@@ -1,6 +1,7 @@
 package com.tn.query.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -88,4 +89,40 @@ class GetterTest
     assertEquals("shortValue", getter.name());
     assertEquals((short)0, getter.get(target));
   }
+
+  @Test
+  void shouldGetPrimitiveDouble()
+  {
+    Getter<Object> getter = Getter.primitiveDouble("doubleValue", object -> object.equals(target) ? 0D : 1D);
+
+    assertEquals("doubleValue", getter.name());
+    assertEquals(0D, getter.get(target));
+    assertEquals(0D, getter.doubleGetter().applyAsDouble(target));
+    assertNull(getter.intGetter());
+    assertNull(getter.longGetter());
+  }
+
+  @Test
+  void shouldGetPrimitiveInt()
+  {
+    Getter<Object> getter = Getter.primitiveInt("intValue", object -> object.equals(target) ? 0 : 1);
+
+    assertEquals("intValue", getter.name());
+    assertEquals(0, getter.get(target));
+    assertEquals(0, getter.intGetter().applyAsInt(target));
+    assertNull(getter.doubleGetter());
+    assertNull(getter.longGetter());
+  }
+
+  @Test
+  void shouldGetPrimitiveLong()
+  {
+    Getter<Object> getter = Getter.primitiveLong("longValue", object -> object.equals(target) ? 0L : 1L);
+
+    assertEquals("longValue", getter.name());
+    assertEquals(0L, getter.get(target));
+    assertEquals(0L, getter.longGetter().applyAsLong(target));
+    assertNull(getter.doubleGetter());
+    assertNull(getter.intGetter());
+  }
 }
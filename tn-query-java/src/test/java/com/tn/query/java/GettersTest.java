@@ -0,0 +1,144 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+
+class GettersTest
+{
+  @Test
+  void shouldGetFromRecord()
+  {
+    List<Getter<Account>> getters = Getters.forClass(Account.class);
+    Account account = new Account(1L, LocalDate.of(2020, 1, 2), 2.5, true, "Test");
+
+    assertEquals(List.of("id", "opened", "balance", "active", "name"), getters.stream().map(Getter::name).toList());
+    assertEquals(
+      Map.of("id", 1L, "opened", LocalDate.of(2020, 1, 2), "balance", 2.5, "active", true, "name", "Test"),
+      values(getters, account)
+    );
+    assertNotNull(getters.get(0).longGetter());
+    assertNotNull(getters.get(2).doubleGetter());
+  }
+
+  @Test
+  void shouldGetFromClass()
+  {
+    List<Getter<Person>> getters = Getters.forClass(Person.class);
+    Person person = new Person(3, "John", 'M', (short)4);
+
+    assertEquals(List.of("id", "name", "initial", "height"), getters.stream().map(Getter::name).toList());
+    assertEquals(Map.of("id", 3, "name", "John", "initial", 'M', "height", (short)4), values(getters, person));
+    assertEquals(3, getters.get(0).intGetter().applyAsInt(person));
+    assertNull(getters.get(1).intGetter());
+  }
+
+  @Test
+  void shouldGetInheritedFields()
+  {
+    List<Getter<Manager>> getters = Getters.forClass(Manager.class);
+    Manager manager = new Manager(3, "John", 'M', (short)4, "Jane", 2);
+
+    assertEquals(List.of("name", "reports", "id", "initial", "height"), getters.stream().map(Getter::name).toList());
+    assertEquals(Map.of("name", "Jane", "reports", 2, "id", 1003, "initial", 'M', "height", (short)4), values(getters, manager));
+    assertEquals(1003, getters.get(2).intGetter().applyAsInt(manager));
+  }
+
+  @Test
+  void shouldCacheGetters()
+  {
+    assertSame(Getters.forClass(Person.class), Getters.forClass(Person.class));
+  }
+
+  @Test
+  void shouldCacheGettersAcrossCollection()
+  {
+    int getters = System.identityHashCode(Getters.forClass(Account.class));
+    System.gc();
+
+    assertEquals(getters, System.identityHashCode(Getters.forClass(Account.class)));
+  }
+
+  @Test
+  void shouldQuery()
+  {
+    DefaultQueryParser<Predicate<Person>> queryParser = new DefaultQueryParser<>(
+      new JavaPredicateFactory<>(Getters.forClass(Person.class)),
+      List.of(Mapper.toInt("id"), Mapper.toString("name"))
+    );
+
+    Predicate<Person> predicate = queryParser.parse("id > 1 && name = John");
+
+    assertEquals(true, predicate.test(new Person(3, "John", 'M', (short)4)));
+    assertEquals(false, predicate.test(new Person(1, "John", 'M', (short)4)));
+  }
+
+  private static <T> Map<String, Object> values(List<Getter<T>> getters, T target)
+  {
+    return getters.stream().collect(Collectors.toMap(Getter::name, getter -> getter.get(target)));
+  }
+
+  private record Account(long id, LocalDate opened, double balance, Boolean active, String name) {}
+
+  @SuppressWarnings("unused")
+  private static class Person
+  {
+    private static final int MAX_ID = 100;
+
+    private final int id;
+    private final String name;
+    private final char initial;
+    short height;
+    private final Object other = new Object();
+
+    Person(int id, String name, char initial, short height)
+    {
+      this.id = id;
+      this.name = name;
+      this.initial = initial;
+      this.height = height;
+    }
+
+    public int getId()
+    {
+      return this.id;
+    }
+
+    private String getName()
+    {
+      return this.name;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class Manager extends Person
+  {
+    private final String name;
+    private final int reports;
+
+    Manager(int id, String name, char initial, short height, String managerName, int reports)
+    {
+      super(id, name, initial, height);
+      this.name = managerName;
+      this.reports = reports;
+    }
+
+    @Override
+    public int getId()
+    {
+      return super.getId() + 1000;
+    }
+  }
+}
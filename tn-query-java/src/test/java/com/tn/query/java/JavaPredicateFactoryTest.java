@@ -1,13 +1,16 @@
 package com.tn.query.java;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -77,6 +80,55 @@ class JavaPredicateFactoryTest
     shouldFailWithException(1, (predicateFactory, left) -> predicateFactory.lessThanOrEqual(left, "X"));
   }
 
+  @Test
+  void shouldMatchPrimitiveInt()
+  {
+    JavaPredicateFactory<Integer> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.primitiveInt("value", target -> target)));
+
+    assertTrue(predicateFactory.equal("value", 1).test(1));
+    assertFalse(predicateFactory.equal("value", 1).test(2));
+    assertTrue(predicateFactory.notEqual("value", 1).test(2));
+    assertTrue(predicateFactory.greaterThan("value", 1).test(2));
+    assertFalse(predicateFactory.greaterThan("value", 1).test(1));
+    assertTrue(predicateFactory.greaterThanOrEqual("value", 1).test(1));
+    assertTrue(predicateFactory.lessThan("value", 1).test(0));
+    assertFalse(predicateFactory.lessThanOrEqual("value", 1).test(2));
+  }
+
+  @Test
+  void shouldMatchPrimitiveLong()
+  {
+    JavaPredicateFactory<Long> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.primitiveLong("value", target -> target)));
+
+    assertTrue(predicateFactory.equal("value", 1L).test(1L));
+    assertTrue(predicateFactory.notEqual("value", 1L).test(2L));
+    assertTrue(predicateFactory.greaterThan("value", 1L).test(2L));
+    assertTrue(predicateFactory.greaterThanOrEqual("value", 1L).test(1L));
+    assertTrue(predicateFactory.lessThan("value", 1L).test(0L));
+    assertFalse(predicateFactory.lessThanOrEqual("value", 1L).test(2L));
+  }
+
+  @Test
+  void shouldMatchPrimitiveDouble()
+  {
+    JavaPredicateFactory<Double> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.primitiveDouble("value", target -> target)));
+
+    assertTrue(predicateFactory.equal("value", 1.5).test(1.5));
+    assertTrue(predicateFactory.equal("value", Double.NaN).test(Double.NaN));
+    assertFalse(predicateFactory.equal("value", 0.0).test(-0.0));
+    assertTrue(predicateFactory.greaterThan("value", 1.5).test(2.0));
+    assertTrue(predicateFactory.lessThanOrEqual("value", 1.5).test(1.5));
+  }
+
+  @Test
+  void shouldMatchPrimitiveWithDifferentType()
+  {
+    JavaPredicateFactory<Integer> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.primitiveInt("value", target -> target)));
+
+    assertFalse(predicateFactory.equal("value", 1L).test(1));
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("value", 1L).test(1));
+  }
+
   @Test
   void shouldMatchLike()
   {
@@ -84,6 +136,7 @@ class JavaPredicateFactoryTest
     shouldMatchPredicate("Test", (predicateFactory, left) -> predicateFactory.like(left, "*est"));
     shouldMatchPredicate("Test", (predicateFactory, left) -> predicateFactory.like(left, "T*st"));
     shouldNotMatchPredicate("Test", (predicateFactory, left) -> predicateFactory.like(left, "X*"));
+    shouldNotMatchPredicate("Test", (predicateFactory, left) -> predicateFactory.like(left, "T..t"));
     shouldFailWithException("Test", (predicateFactory, left) -> predicateFactory.like(left, 1));
     shouldFailWithException(1, (predicateFactory, left) -> predicateFactory.like(left, "Test"));
   }
@@ -104,6 +157,65 @@ class JavaPredicateFactoryTest
   {
     shouldMatchPredicate("A", (predicateFactory, left) -> predicateFactory.in(left, List.of("A", "B", "C")));
     shouldNotMatchPredicate("Z", (predicateFactory, left) -> predicateFactory.in(left, List.of("A", "B", "C")));
+    shouldMatchPredicate(null, (predicateFactory, left) -> predicateFactory.in(left, Arrays.asList("A", null)));
+    shouldNotMatchPredicate(1L, (predicateFactory, left) -> predicateFactory.in(left, List.of(1, 2)));
+  }
+
+  @Test
+  void shouldMatchTypedComparison()
+  {
+    JavaPredicateFactory<Object> predicateFactory = new JavaPredicateFactory<>(
+      List.of(
+        Getter.charValue("charValue", target -> (Character)target),
+        Getter.intValue("intValue", target -> (Integer)target)
+      )
+    );
+
+    assertTrue(predicateFactory.greaterThan("intValue", 1).test(2));
+    assertFalse(predicateFactory.lessThanOrEqual("intValue", 1).test(2));
+    assertTrue(predicateFactory.lessThan("charValue", 'b').test('a'));
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("intValue", 1).test(null));
+  }
+
+  @Test
+  void shouldFailFastWhenComparisonTypesDiffer()
+  {
+    JavaPredicateFactory<Object> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.intValue("intValue", target -> (Integer)target)));
+
+    assertThrows(QueryException.class, () -> predicateFactory.greaterThan("intValue", 1L));
+    assertThrows(QueryException.class, () -> predicateFactory.lessThan("intValue", "X"));
+    assertThrows(QueryException.class, () -> predicateFactory.lessThanOrEqual("intValue", new Object()));
+  }
+
+  @Test
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  void shouldFailWhenGetterReturnsAnotherType()
+  {
+    Function<Object, Integer> get = (Function)Function.identity();
+    JavaPredicateFactory<Object> predicateFactory = new JavaPredicateFactory<>(List.of(Getter.intValue("intValue", get)));
+
+    QueryException exception = assertThrows(QueryException.class, () -> predicateFactory.greaterThan("intValue", 1).test("X"));
+    assertEquals("Type mismatch: X and Integer", exception.getMessage());
+    assertTrue(predicateFactory.lessThanOrEqual("intValue", 1).test(1));
+  }
+
+  @Test
+  void shouldMatchPrimitiveIn()
+  {
+    JavaPredicateFactory<Number> predicateFactory = new JavaPredicateFactory<>(
+      List.of(
+        Getter.primitiveDouble("doubleValue", Number::doubleValue),
+        Getter.primitiveInt("intValue", Number::intValue),
+        Getter.primitiveLong("longValue", Number::longValue)
+      )
+    );
+
+    assertTrue(predicateFactory.in("intValue", List.of(0, 1, 2)).test(0));
+    assertFalse(predicateFactory.in("intValue", List.of(1L, "0")).test(1));
+    assertTrue(predicateFactory.in("longValue", List.of(1L, 2L)).test(2L));
+    assertFalse(predicateFactory.in("longValue", List.of(1, 2)).test(2L));
+    assertTrue(predicateFactory.in("doubleValue", List.of(1.5, Double.NaN)).test(Double.NaN));
+    assertFalse(predicateFactory.in("doubleValue", List.of(0.0)).test(-0.0));
   }
 
   @Test
@@ -124,6 +236,42 @@ class JavaPredicateFactoryTest
     shouldNotMatchPredicate("A", (predicateFactory, left) -> predicateFactory.or(target -> false, target -> false));
   }
 
+  @Test
+  void shouldMatchAndList()
+  {
+    shouldMatchPredicate("A", (predicateFactory, left) -> predicateFactory.and(List.of(target -> true, target -> true, target -> true)));
+    shouldNotMatchPredicate("A", (predicateFactory, left) -> predicateFactory.and(List.of(target -> true, target -> true, target -> false)));
+    shouldNotMatchPredicate("A", (predicateFactory, left) -> predicateFactory.and(List.of(target -> false, target -> true, target -> true)));
+  }
+
+  @Test
+  void shouldMatchOrList()
+  {
+    shouldMatchPredicate("A", (predicateFactory, left) -> predicateFactory.or(List.of(target -> false, target -> false, target -> true)));
+    shouldMatchPredicate("A", (predicateFactory, left) -> predicateFactory.or(List.of(target -> true, target -> false, target -> false)));
+    shouldNotMatchPredicate("A", (predicateFactory, left) -> predicateFactory.or(List.of(target -> false, target -> false, target -> false)));
+  }
+
+  @Test
+  void shouldMatchConstant()
+  {
+    shouldMatchPredicate("A", (predicateFactory, left) -> predicateFactory.constant(true));
+    shouldNotMatchPredicate("A", (predicateFactory, left) -> predicateFactory.constant(false));
+  }
+
+  @Test
+  void shouldIdentifyConstant()
+  {
+    JavaPredicateFactory<Object> predicateFactory = new JavaPredicateFactory<>(List.of());
+
+    assertTrue(JavaPredicateFactory.isAlwaysTrue(predicateFactory.constant(true)));
+    assertFalse(JavaPredicateFactory.isAlwaysTrue(predicateFactory.constant(false)));
+    assertFalse(JavaPredicateFactory.isAlwaysTrue(target -> true));
+    assertTrue(JavaPredicateFactory.isAlwaysFalse(predicateFactory.constant(false)));
+    assertFalse(JavaPredicateFactory.isAlwaysFalse(predicateFactory.constant(true)));
+    assertFalse(JavaPredicateFactory.isAlwaysFalse(target -> false));
+  }
+
   @Test
   void shouldMatchWithParenthesis()
   {
@@ -0,0 +1,75 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LikeMatcherTest
+{
+  @Test
+  void shouldMatchExact()
+  {
+    assertTrue(LikeMatcher.compile("Test").test("Test"));
+    assertFalse(LikeMatcher.compile("Test").test("Testing"));
+    assertFalse(LikeMatcher.compile("Test").test("test"));
+  }
+
+  @Test
+  void shouldMatchPrefix()
+  {
+    assertTrue(LikeMatcher.compile("Tes*").test("Test"));
+    assertTrue(LikeMatcher.compile("Tes*").test("Tes"));
+    assertFalse(LikeMatcher.compile("Tes*").test("ATest"));
+  }
+
+  @Test
+  void shouldMatchSuffix()
+  {
+    assertTrue(LikeMatcher.compile("*est").test("Test"));
+    assertTrue(LikeMatcher.compile("*est").test("est"));
+    assertFalse(LikeMatcher.compile("*est").test("Testing"));
+  }
+
+  @Test
+  void shouldMatchContains()
+  {
+    assertTrue(LikeMatcher.compile("*es*").test("Test"));
+    assertTrue(LikeMatcher.compile("**es**").test("es"));
+    assertFalse(LikeMatcher.compile("*es*").test("Tst"));
+  }
+
+  @Test
+  void shouldMatchGeneral()
+  {
+    assertTrue(LikeMatcher.compile("T*st").test("Test"));
+    assertTrue(LikeMatcher.compile("T*st").test("Tst"));
+    assertTrue(LikeMatcher.compile("*e*t*").test("Testing"));
+    assertTrue(LikeMatcher.compile("T*t").test("Te\nst"));
+    assertFalse(LikeMatcher.compile("T*st").test("Testing"));
+  }
+
+  @Test
+  void shouldMatchWildcardOnly()
+  {
+    assertTrue(LikeMatcher.compile("*").test(""));
+    assertTrue(LikeMatcher.compile("**").test("Test"));
+  }
+
+  @Test
+  void shouldMatchEmpty()
+  {
+    assertTrue(LikeMatcher.compile("").test(""));
+    assertFalse(LikeMatcher.compile("").test("Test"));
+  }
+
+  @Test
+  void shouldNotTreatRegexCharactersAsSpecial()
+  {
+    assertTrue(LikeMatcher.compile("a.c").test("a.c"));
+    assertFalse(LikeMatcher.compile("a.c").test("abc"));
+    assertTrue(LikeMatcher.compile("(a)*[b]").test("(a)x[b]"));
+    assertFalse(LikeMatcher.compile("a+*c").test("aac"));
+    assertTrue(LikeMatcher.compile("\\Q*\\E").test("\\Qx\\E"));
+  }
+}
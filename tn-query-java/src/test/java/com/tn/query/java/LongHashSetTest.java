@@ -0,0 +1,51 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest
+{
+  @Test
+  void shouldContainValues()
+  {
+    LongHashSet set = new LongHashSet(new long[]{1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1});
+
+    assertTrue(set.contains(1));
+    assertTrue(set.contains(-1));
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(2));
+  }
+
+  @Test
+  void shouldContainZero()
+  {
+    assertTrue(new LongHashSet(new long[]{0}).contains(0));
+    assertFalse(new LongHashSet(new long[]{1}).contains(0));
+  }
+
+  @Test
+  void shouldContainNothingWhenEmpty()
+  {
+    LongHashSet set = new LongHashSet(new long[0]);
+
+    assertFalse(set.contains(0));
+    assertFalse(set.contains(1));
+  }
+
+  @Test
+  void shouldContainManyValues()
+  {
+    LongHashSet set = new LongHashSet(LongStream.range(0, 10_000).map(i -> i * 1024).toArray());
+
+    for (long i = 0; i < 10_000; i++)
+    {
+      assertTrue(set.contains(i * 1024));
+      assertFalse(set.contains(i * 1024 + 1));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.QueryException;
+
+class ParallelScannerTest
+{
+  private static final List<Integer> SOURCE = IntStream.range(0, 10_000).boxed().toList();
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void shutdown()
+  {
+    this.pool.shutdown();
+  }
+
+  @Test
+  void shouldList()
+  {
+    ParallelScanner scanner = new ParallelScanner(this.pool).withChunkSize(100);
+    Predicate<Integer> predicate = value -> value % 7 == 3;
+
+    assertEquals(SOURCE.stream().filter(predicate).toList(), scanner.list(SOURCE, predicate));
+    assertEquals(SOURCE.stream().filter(predicate).toList(), scanner.list(new LinkedList<>(SOURCE), predicate));
+    assertEquals(List.of(), scanner.list(List.of(), predicate));
+  }
+
+  @Test
+  void shouldCount()
+  {
+    ParallelScanner scanner = new ParallelScanner(this.pool).withChunkSize(33);
+
+    assertEquals(1429, scanner.count(SOURCE, value -> value % 7 == 3));
+    assertEquals(0, scanner.count(List.<Integer>of(), value -> true));
+  }
+
+  @Test
+  void shouldFindFirst()
+  {
+    ParallelScanner scanner = new ParallelScanner(this.pool).withChunkSize(100);
+
+    assertEquals(List.of(3, 10, 17), scanner.first(SOURCE, value -> value % 7 == 3, 3));
+    assertEquals(SOURCE.subList(0, 250), scanner.first(SOURCE, value -> true, 250));
+    assertEquals(List.of(9_999), scanner.first(SOURCE, value -> value == 9_999, 5));
+    assertEquals(List.of(), scanner.first(SOURCE, value -> true, 0));
+  }
+
+  @Test
+  void shouldPropagateFailure()
+  {
+    ParallelScanner scanner = new ParallelScanner(this.pool).withChunkSize(100);
+
+    assertThrows(QueryException.class, () -> scanner.count(SOURCE, value -> { if (value == 5_000) throw new QueryException("Failed"); return true; }));
+  }
+
+  @Test
+  void shouldNotAcceptInvalidArguments()
+  {
+    ParallelScanner scanner = new ParallelScanner(this.pool);
+
+    assertThrows(IllegalArgumentException.class, () -> scanner.withChunkSize(0));
+    assertThrows(IllegalArgumentException.class, () -> scanner.first(SOURCE, value -> true, -1));
+  }
+}
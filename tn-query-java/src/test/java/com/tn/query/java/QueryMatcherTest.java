@@ -0,0 +1,187 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryParseException;
+import com.tn.query.QueryParser;
+
+class QueryMatcherTest
+{
+  private static final List<Getter<Event>> GETTERS = List.of(
+    Getter.comparableValue("type", Event::type),
+    Getter.primitiveInt("quantity", Event::quantity),
+    Getter.primitiveDouble("price", Event::price),
+    Getter.comparableValue("region", Event::region)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("quantity"), Mapper.toDouble("price"));
+  private static final List<String> QUERIES = List.of(
+    "type = buy",
+    "type = missing",
+    "type ∈ [buy, sell, missing]",
+    "type ∈ []",
+    "type != buy",
+    "type ≈ b*",
+    "quantity > 50",
+    "quantity >= 50",
+    "quantity < 10",
+    "quantity <= 10",
+    "quantity = 25",
+    "price > 50.0 && price < 60.0",
+    "price >= 50.0 && price <= 50.0",
+    "price > 50.0 && price < 40.0",
+    "quantity > 10 && quantity >= 10 && quantity < 30 && quantity <= 29 && type = sell",
+    "type = buy && quantity > 90",
+    "type = buy && region ≈ e*",
+    "type = buy || quantity < 5",
+    "type = buy || region ≈ e*",
+    "quantity > 90 || quantity < 5 || price ∈ [1.0, 2.0]",
+    "(type = buy && quantity > 40) || (region = east && price < 10.0)",
+    "type = buy && type = sell",
+    "region = west && (quantity < 20 || quantity > 80)"
+  );
+  private static final int SIZE = 500;
+
+  @Test
+  void shouldMatchEveryQuery()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    for (int i = 0; i < QUERIES.size(); i++) matcher.register(String.valueOf(i), QUERIES.get(i));
+
+    QueryParser<Predicate<Event>> queryParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+    List<Predicate<Event>> predicates = QUERIES.stream().map(queryParser::parse).toList();
+
+    for (Event event : events())
+    {
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < predicates.size(); i++) if (predicates.get(i).test(event)) expected.add(String.valueOf(i));
+
+      assertEquals(expected, matcher.match(event), event.toString());
+    }
+  }
+
+  @Test
+  void shouldOnlyTestCandidates()
+  {
+    AtomicInteger reads = new AtomicInteger();
+    List<Getter<Event>> getters = List.of(
+      Getter.comparableValue("type", Event::type),
+      Getter.primitiveInt("quantity", Event::quantity),
+      Getter.comparableValue("region", event -> { reads.incrementAndGet(); return event.region(); })
+    );
+
+    QueryMatcher<Event> matcher = new QueryMatcher<>(getters, MAPPERS);
+    for (int i = 0; i < 100; i++) matcher.register("q" + i, "type = t" + i + " && quantity > " + i + " && region = east");
+
+    //Each query is found by its type, so only the query for type t7 is tested and only when its quantity matches is the region read.
+    assertEquals(List.of("q7"), matcher.match(new Event("t7", 8, 1.0, "east")));
+    assertEquals(List.of(), matcher.match(new Event("t7", 7, 1.0, "east")));
+    assertEquals(List.of(), matcher.match(new Event("other", 100, 1.0, "east")));
+    assertEquals(1, reads.get());
+  }
+
+  @Test
+  void shouldUnregister()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    matcher.register("equal", "type = buy");
+    matcher.register("range", "quantity > 10 || quantity < 5");
+    matcher.register("scan", "type != sell");
+
+    Event event = new Event("buy", 20, 1.0, "east");
+    assertEquals(List.of("equal", "range", "scan"), matcher.match(event));
+
+    assertTrue(matcher.unregister("range"));
+    assertTrue(matcher.unregister("scan"));
+    assertFalse(matcher.unregister("scan"));
+    assertEquals(1, matcher.size());
+    assertEquals(List.of("equal"), matcher.match(event));
+
+    assertTrue(matcher.unregister("equal"));
+    assertEquals(0, matcher.size());
+    assertEquals(List.of(), matcher.match(event));
+  }
+
+  @Test
+  void shouldReplaceRegistration()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    matcher.register("a", "type = buy");
+    matcher.register("a", "type = sell");
+
+    assertEquals(1, matcher.size());
+    assertEquals(List.of(), matcher.match(new Event("buy", 1, 1.0, "east")));
+    assertEquals(List.of("a"), matcher.match(new Event("sell", 1, 1.0, "east")));
+
+    assertThrows(QueryParseException.class, () -> matcher.register("a", "type = "));
+    assertEquals(List.of("a"), matcher.match(new Event("sell", 1, 1.0, "east")));
+  }
+
+  @Test
+  void shouldCompactReplacedRegistrations()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    matcher.register("fixed", "type = sell");
+    for (int i = 0; i < SIZE; i++) matcher.register("replaced", "quantity >= " + i + " && quantity < " + (i + 10));
+
+    assertEquals(2, matcher.size());
+    assertTrue(matcher.slots() <= 2 * 2, String.valueOf(matcher.slots()));
+    assertEquals(List.of("fixed", "replaced"), matcher.match(new Event("sell", SIZE - 1, 1.0, "east")));
+    assertEquals(List.of("fixed"), matcher.match(new Event("sell", SIZE - 11, 1.0, "east")));
+  }
+
+  @Test
+  void shouldMatchUnboundedRanges()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    matcher.register("above", "quantity > 1");
+    matcher.register("between", "quantity >= 2 && quantity <= 3");
+    matcher.register("below", "quantity < 4");
+
+    //All three ranges contain the center of the tree, so each is found either side of it by its bound alone.
+    assertEquals(List.of("above"), matcher.match(new Event("buy", 20, 1.0, "east")));
+    assertEquals(List.of("above", "between", "below"), matcher.match(new Event("buy", 3, 1.0, "east")));
+    assertEquals(List.of("below"), matcher.match(new Event("buy", 0, 1.0, "east")));
+  }
+
+  @Test
+  void shouldCompact()
+  {
+    QueryMatcher<Event> matcher = new QueryMatcher<>(GETTERS, MAPPERS);
+    for (int i = 0; i < SIZE; i++) matcher.register("q" + i, "quantity >= " + i + " && quantity < " + (i + 10));
+    for (int i = 0; i < SIZE; i += 3) matcher.unregister("q" + i);
+    for (int i = 1; i < SIZE; i += 3) matcher.unregister("q" + i);
+
+    assertEquals(166, matcher.size());
+    assertEquals(List.of("q92", "q95", "q98", "q101"), matcher.match(new Event("buy", 101, 1.0, "east")));
+  }
+
+  private static List<Event> events()
+  {
+    Random random = new Random(42);
+    String[] types = {"buy", "sell", "hold"};
+    String[] regions = {"east", "west", "north"};
+
+    List<Event> events = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++)
+    {
+      events.add(new Event(types[random.nextInt(types.length)], random.nextInt(100), random.nextInt(100) / 2.0, regions[random.nextInt(regions.length)]));
+    }
+
+    return events;
+  }
+
+  private record Event(String type, int quantity, double price, String region) {}
+}
@@ -0,0 +1,210 @@
+package com.tn.query.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.DefaultQueryParser;
+import com.tn.query.Mapper;
+import com.tn.query.QueryException;
+import com.tn.query.QueryParser;
+
+class QueryableCollectionTest
+{
+  private static final List<Getter<Person>> GETTERS = List.of(
+    Getter.primitiveInt("id", Person::id),
+    Getter.comparableValue("name", Person::name),
+    Getter.primitiveInt("age", Person::age),
+    Getter.primitiveDouble("score", Person::score)
+  );
+  private static final List<Mapper> MAPPERS = List.of(Mapper.toInt("id"), Mapper.toInt("age"), Mapper.toDouble("score"));
+  private static final int SIZE = 500;
+
+  @Test
+  void shouldMatchScan()
+  {
+    List<Person> people = people();
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS)
+      .withHashIndex("name")
+      .withSortedIndex("age")
+      .withSortedIndex("id");
+    collection.addAll(people);
+
+    QueryParser<Predicate<Person>> queryParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+
+    for (String query : List.of(
+      "name = n3",
+      "name = missing",
+      "name ∈ [n1, n2, missing]",
+      "name != n3",
+      "name ≈ n1*",
+      "age > 40",
+      "age >= 40",
+      "age < 20",
+      "age <= 20",
+      "age > 90",
+      "age = 30",
+      "age ∈ [30, 31]",
+      "id >= 100 && id < 110",
+      "id > 100 && id <= 100",
+      "id >= 100 && id <= 100",
+      "age > 10 && age >= 10 && age < 30 && age <= 29 && name = n1",
+      "age > 10 && age < 12 && id > 400",
+      "name = n3 && age > 40",
+      "name = n3 && score < 2.0",
+      "name = n3 || age = 30",
+      "name = n3 || score < 2.0",
+      "(name = n3 && age > 40) || (id < 5 && score > 1.0)",
+      "score > 2.0",
+      "name = n3 && name = n4",
+      "age > 40 || age < 20"
+    ))
+    {
+      assertEquals(people.stream().filter(queryParser.parse(query)).toList(), collection.findWhere(query), query);
+    }
+  }
+
+  @Test
+  void shouldUseIndex()
+  {
+    AtomicInteger reads = new AtomicInteger();
+    List<Getter<Person>> getters = List.of(
+      Getter.comparableValue("name", person -> { reads.incrementAndGet(); return person.name(); }),
+      Getter.primitiveInt("age", person -> { reads.incrementAndGet(); return person.age(); })
+    );
+
+    QueryableCollection<Person> collection = new QueryableCollection<>(getters, MAPPERS).withHashIndex("name").withSortedIndex("age");
+    collection.addAll(people());
+    reads.set(0);
+
+    assertEquals(39, collection.findWhere("name = n3").size());
+    assertEquals(0, reads.get());
+
+    //Candidates found with a sorted index are tested again, and only the candidates found with the name index have their age read.
+    assertEquals(20, collection.findWhere("age ∈ [30, 31]").size());
+    assertEquals(39, collection.findWhere("name = n3 && age >= 0").size());
+    assertEquals(59, reads.get());
+  }
+
+  @Test
+  void shouldIndexExistingElements()
+  {
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS);
+    collection.addAll(people());
+    collection.withHashIndex("name");
+
+    assertEquals(39, collection.findWhere("name = n3").size());
+  }
+
+  @Test
+  void shouldRemove()
+  {
+    List<Person> people = people();
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS).withHashIndex("name").withSortedIndex("age");
+    collection.addAll(people);
+
+    assertTrue(collection.remove(people.get(3)));
+    assertFalse(collection.remove(new Person(-1, "n3", 1, 1.0)));
+    assertEquals(SIZE - 1, collection.size());
+    assertEquals(38, collection.findWhere("name = n3").size());
+    assertFalse(collection.findWhere("name = n3").contains(people.get(3)));
+
+    //Removing most elements renumbers the remainder.
+    List<Person> remaining = new ArrayList<>(people.subList(0, SIZE - 10));
+    for (Person person : people.subList(SIZE - 10, SIZE)) collection.remove(person);
+    for (Person person : people.subList(10, SIZE - 10)) if (collection.remove(person)) remaining.remove(person);
+    remaining.remove(people.get(3));
+
+    assertEquals(remaining, collection.findWhere("age >= 0"));
+    assertEquals(remaining.stream().filter(person -> person.name().equals("n3")).toList(), collection.findWhere("name = n3"));
+  }
+
+  @Test
+  void shouldAddDuplicates()
+  {
+    Person person = new Person(1, "n1", 1, 1.0);
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS).withHashIndex("name");
+    collection.addAll(List.of(person, person));
+
+    assertEquals(List.of(person, person), collection.findWhere("name = n1"));
+
+    collection.remove(person);
+    assertEquals(List.of(person), collection.findWhere("name = n1"));
+  }
+
+  @Test
+  void shouldNotCompareNulls()
+  {
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS).withSortedIndex("name");
+    collection.add(new Person(1, null, 1, 1.0));
+
+    assertThrows(QueryException.class, () -> collection.findWhere("name > a"));
+    assertEquals(List.of(), collection.findWhere("name = a"));
+  }
+
+  @Test
+  void shouldScanRangesOverNulls()
+  {
+    List<Person> people = new ArrayList<>(people());
+    people.add(new Person(SIZE, null, 2, 1.0));
+
+    QueryableCollection<Person> collection = new QueryableCollection<>(GETTERS, MAPPERS).withSortedIndex("name").withSortedIndex("age");
+    collection.addAll(people);
+
+    QueryParser<Predicate<Person>> queryParser = new DefaultQueryParser<>(new JavaPredicateFactory<>(GETTERS), MAPPERS);
+    String query = "age = 3 && name > n1";
+
+    assertEquals(people.stream().filter(queryParser.parse(query)).toList(), collection.findWhere(query));
+  }
+
+  @Test
+  void shouldNotAddUnindexable()
+  {
+    List<Getter<Item>> getters = List.of(Getter.primitiveInt("id", Item::id), Getter.comparableValue("value", Item::value));
+    QueryableCollection<Item> collection = new QueryableCollection<>(getters, List.of(Mapper.toInt("id"))).withHashIndex("id").withSortedIndex("value");
+
+    collection.add(new Item(1, "x"));
+    assertThrows(QueryException.class, () -> collection.add(new Item(2, 5)));
+    assertThrows(QueryException.class, () -> collection.addAll(List.of(new Item(3, "y"), new Item(4, 6))));
+    collection.add(new Item(5, "z"));
+
+    assertEquals(2, collection.size());
+    assertEquals(List.of(), collection.findWhere("id = 2"));
+    assertEquals(List.of(), collection.findWhere("id = 3"));
+    assertEquals(List.of(new Item(5, "z")), collection.findWhere("id = 5"));
+    assertEquals(List.of(new Item(1, "x"), new Item(5, "z")), collection.findWhere("id > 0"));
+  }
+
+  @Test
+  void shouldNotIndexMissingGetter()
+  {
+    assertThrows(QueryException.class, () -> new QueryableCollection<>(GETTERS, MAPPERS).withHashIndex("missing"));
+  }
+
+  @Test
+  void shouldUnionIds()
+  {
+    assertEquals(List.of(1, 2, 3, 5, 8), Arrays.stream(IdList.union(new int[]{1, 3, 5}, new int[]{2, 3, 8})).boxed().toList());
+  }
+
+  private static List<Person> people()
+  {
+    List<Person> people = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) people.add(new Person(i, "n" + i % 13, i % 100 / 2, i % 7 / 2.0));
+
+    return people;
+  }
+
+  private record Item(int id, Comparable<?> value) {}
+
+  private record Person(int id, String name, int age, double score) {}
+}
@@ -38,7 +38,7 @@ import com.tn.query.DefaultQueryParser;
 import com.tn.query.Mapper;
 import com.tn.query.QueryException;
 import com.tn.query.QueryParseException;
-import com.tn.query.QueryParser;
+import com.tn.query.QueryTemplate;
 
 @SuppressWarnings({"SqlResolve", "SqlNoDataSourceInspection"})
 class JdbcQueryIntegrationTest
@@ -88,7 +88,7 @@ class JdbcQueryIntegrationTest
 
   private static Connection connection;
 
-  private final QueryParser<JdbcPredicate> queryParser = new DefaultQueryParser<>(
+  private final DefaultQueryParser<JdbcPredicate> queryParser = new DefaultQueryParser<>(
     new JdbcPredicateFactory(FIELD_MAPPINGS),
     List.of(
       Mapper.toBoolean("booleanValue"),
@@ -998,6 +998,67 @@ class JdbcQueryIntegrationTest
     assertNoMatch("booleanValue = false || (stringValue = X && intValue = 1)");
   }
 
+  @Test
+  void shouldMatchTemplate() throws SQLException
+  {
+    Target target = new Target();
+    target.stringValue = "Testing";
+    target.intValue = 123;
+
+    insertTarget(target);
+
+    QueryTemplate<JdbcPredicate> queryTemplate = this.queryParser.template("stringValue = ? && intValue > ?");
+    JdbcPredicate match = queryTemplate.bind("Testing", "100");
+    JdbcPredicate noMatch = queryTemplate.bind("Testing", 123);
+
+    assertEquals(match.toSql(), noMatch.toSql());
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT + match.toSql()))
+    {
+      match.setValues(preparedStatement);
+
+      try (ResultSet resultSet = preparedStatement.executeQuery())
+      {
+        assertTrue(resultSet.next());
+        assertEquals(target.intValue, resultSet.getInt("int_value"));
+      }
+
+      noMatch.setValues(preparedStatement);
+
+      try (ResultSet resultSet = preparedStatement.executeQuery())
+      {
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+
+  @Test
+  void shouldNotMatchUnsatisfiable() throws SQLException
+  {
+    Target target = new Target();
+    target.intValue = 1;
+
+    insertTarget(target);
+
+    DefaultQueryParser<JdbcPredicate> queryParser = new DefaultQueryParser<>(
+      new JdbcPredicateFactory(FIELD_MAPPINGS),
+      List.of(Mapper.toInt("intValue"))
+    ).withOptimizer();
+
+    JdbcPredicate predicate = queryParser.parse("intValue = 1 && intValue = 2");
+    assertTrue(JdbcPredicateFactory.isAlwaysFalse(predicate));
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT + predicate.toSql()))
+    {
+      predicate.setValues(preparedStatement);
+
+      try (ResultSet resultSet = preparedStatement.executeQuery())
+      {
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+
   private void assertMatch(String query, Assertion<ResultSet, SQLException> assertion) throws SQLException
   {
     JdbcPredicate predicate = this.queryParser.parse(query);
@@ -22,6 +22,8 @@ import com.tn.query.QueryParseException;
 
 public class JdbcPredicateFactory implements PredicateFactory<JdbcPredicate>
 {
+  private static final JdbcPredicate ALWAYS_FALSE = new JdbcConstant("1 = 0");
+  private static final JdbcPredicate ALWAYS_TRUE = new JdbcConstant("1 = 1");
   private static final String COMMA = ", ";
   private static final String LIKE_WILDCARD = "%";
   private static final String TEMPLATE_EQUAL = "%s = %s";
@@ -33,24 +35,30 @@ public class JdbcPredicateFactory implements PredicateFactory<JdbcPredicate>
   private static final String TEMPLATE_LIKE = "%s LIKE %s";
   private static final String TEMPLATE_NOT_LIKE = "%s NOT LIKE %s";
   private static final String TEMPLATE_IN = "%s IN (%s)";
-  private static final String TEMPLATE_AND = "%s AND %s";
-  private static final String TEMPLATE_OR = "%s OR %s";
+  private static final String DELIMITER_AND = " AND ";
+  private static final String DELIMITER_OR = " OR ";
   private static final String WILDCARD = "*";
 
   private final Map<String, String> nameMappings;
-
-  private ZoneOffset zoneOffset;
+  private final ZoneOffset zoneOffset;
 
   public JdbcPredicateFactory(Map<String, String> nameMappings)
+  {
+    this(nameMappings, ZoneOffset.UTC);
+  }
+
+  public JdbcPredicateFactory(Map<String, String> nameMappings, ZoneOffset zoneOffset)
   {
     this.nameMappings = nameMappings;
-    this.zoneOffset = ZoneOffset.UTC;
+    this.zoneOffset = zoneOffset;
   }
 
+  //Use JdbcPredicateFactory(Map, ZoneOffset) instead.  This no longer changes this factory, so callers that ignore the factory returned keep UTC.
+  @Deprecated
   public JdbcPredicateFactory withZoneOffset(ZoneOffset zoneOffset)
   {
-    this.zoneOffset = zoneOffset;
-    return this;
+    //A new factory is returned, so predicates already cached by a parser using this factory keep the offset they were built with.
+    return new JdbcPredicateFactory(this.nameMappings, zoneOffset);
   }
 
   @Override
@@ -155,13 +163,31 @@ public class JdbcPredicateFactory implements PredicateFactory<JdbcPredicate>
   @Override
   public JdbcPredicate and(JdbcPredicate left, JdbcPredicate right)
   {
-    return new JdbcLogical(TEMPLATE_AND, left, right);
+    return new JdbcLogical(DELIMITER_AND, List.of(left, right));
   }
 
   @Override
   public JdbcPredicate or(JdbcPredicate left, JdbcPredicate right)
   {
-    return new JdbcLogical(TEMPLATE_OR, left, right);
+    return new JdbcLogical(DELIMITER_OR, List.of(left, right));
+  }
+
+  @Override
+  public JdbcPredicate and(List<JdbcPredicate> predicates)
+  {
+    return new JdbcLogical(DELIMITER_AND, predicates);
+  }
+
+  @Override
+  public JdbcPredicate or(List<JdbcPredicate> predicates)
+  {
+    return new JdbcLogical(DELIMITER_OR, predicates);
+  }
+
+  @Override
+  public JdbcPredicate constant(boolean value)
+  {
+    return value ? ALWAYS_TRUE : ALWAYS_FALSE;
   }
 
   @Override
@@ -171,6 +197,22 @@ public class JdbcPredicateFactory implements PredicateFactory<JdbcPredicate>
     else return new JdbcParenthesis((AbstractJdbcPredicate)predicate);
   }
 
+  @Override
+  public boolean isReusable()
+  {
+    return true;
+  }
+
+  public static boolean isAlwaysFalse(JdbcPredicate predicate)
+  {
+    return predicate == ALWAYS_FALSE;
+  }
+
+  public static boolean isAlwaysTrue(JdbcPredicate predicate)
+  {
+    return predicate == ALWAYS_TRUE;
+  }
+
   private String name(String left)
   {
     String name = this.nameMappings.get(left);
@@ -292,36 +334,64 @@ public class JdbcPredicateFactory implements PredicateFactory<JdbcPredicate>
     }
   }
 
+  private static class JdbcConstant extends AbstractJdbcPredicate
+  {
+    private final String sql;
+
+    public JdbcConstant(String sql)
+    {
+      this.sql = sql;
+    }
+
+    @Override
+    public String toSql()
+    {
+      return this.sql;
+    }
+
+    @Override
+    public String toString()
+    {
+      return this.sql;
+    }
+
+    @Override
+    protected void setValues(PreparedStatement preparedStatement, IntSupplier index)
+    {
+      //No values to set.
+    }
+  }
+
   private static class JdbcLogical extends AbstractJdbcPredicate
   {
-    private final String template;
-    private final JdbcPredicate left;
-    private final JdbcPredicate right;
+    private final String delimiter;
+    private final List<JdbcPredicate> predicates;
 
-    public JdbcLogical(String template, JdbcPredicate left, JdbcPredicate right)
+    public JdbcLogical(String delimiter, List<JdbcPredicate> predicates)
     {
-      this.template = template;
-      this.left = left;
-      this.right = right;
+      this.delimiter = delimiter;
+      this.predicates = List.copyOf(predicates);
     }
 
     @Override
     public String toSql()
     {
-      return format(this.template, this.left.toSql(), this.right.toSql());
+      return this.predicates.stream().map(JdbcPredicate::toSql).collect(joining(this.delimiter));
     }
 
     @Override
     public String toString()
     {
-      return format(this.template, this.left.toString(), this.right.toString());
+      return this.predicates.stream().map(JdbcPredicate::toString).collect(joining(this.delimiter));
     }
 
     @Override
     protected void setValues(PreparedStatement preparedStatement, IntSupplier index) throws SQLException
     {
-      ((AbstractJdbcPredicate)this.left).setValues(preparedStatement, index);
-      ((AbstractJdbcPredicate)this.right).setValues(preparedStatement, index);
+      for (JdbcPredicate predicate : this.predicates)
+      {
+        ((AbstractJdbcPredicate)predicate).setValues(preparedStatement, index);
+      }
     }
   }
 
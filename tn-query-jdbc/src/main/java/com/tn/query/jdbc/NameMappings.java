@@ -5,16 +5,26 @@ import static java.lang.Character.toLowerCase;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.stream.Collectors.toUnmodifiableSet;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.function.Function;
+
+import com.tn.query.FieldDescriptor;
+import com.tn.query.FieldRegistry;
 
 public class NameMappings
 {
+  private static final ClassValue<Map<String, String>> COLUMN_NAMES = new ClassValue<>()
+  {
+    @Override
+    protected Map<String, String> computeValue(Class<?> subject)
+    {
+      return FieldRegistry.fields(subject).stream().map(FieldDescriptor::name).collect(toUnmodifiableMap(Function.identity(), NameMappings::columnName));
+    }
+  };
   private static final String UNDERSCORE = "_";
 
   private NameMappings() {}
@@ -36,16 +46,23 @@ public class NameMappings
 
   public static Map<String, String> forFields(Class<?> subject, Collection<String> ignored, Map<String, String> overrides)
   {
+    Map<String, String> columnNames = COLUMN_NAMES.get(subject);
+    if (ignored.isEmpty() && overrides.isEmpty()) return columnNames;
+
     Map<String, String> mappings = new HashMap<>(overrides);
-    fieldNames(subject, ignored).forEach(fieldName -> mappings.putIfAbsent(fieldName, override(overrides, fieldName)));
+    columnNames.forEach(
+      (fieldName, columnName) ->
+      {
+        if (!ignored.contains(fieldName)) mappings.putIfAbsent(fieldName, columnName);
+      }
+    );
 
     return unmodifiableMap(mappings);
   }
 
-  private static String override(Map<String, String> overrides, String fieldName)
+  public static void precompute(Class<?>... subjects)
   {
-    String override = overrides.get(fieldName);
-    return override != null ? override : columnName(fieldName);
+    for (Class<?> subject : subjects) COLUMN_NAMES.get(subject);
   }
 
   private static String columnName(String fieldName)
@@ -61,13 +78,4 @@ public class NameMappings
 
     return columnName.toString();
   }
-
-  private static Collection<String> fieldNames(Class<?> subject, Collection<String> ignored)
-  {
-    return Stream.of(subject.getDeclaredFields())
-      .filter(field -> !field.isSynthetic())
-      .map(Field::getName)
-      .filter(fieldName -> !ignored.contains(fieldName))
-      .collect(toUnmodifiableSet());
-  }
 }
@@ -6,7 +6,10 @@ import static java.time.Month.NOVEMBER;
 import static java.time.Month.OCTOBER;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -22,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import com.tn.query.PredicateFactory;
 import com.tn.query.QueryException;
@@ -46,7 +50,7 @@ class JdbcPredicateFactoryTest
     FIELD_MAPPINGS.put("stringValue", "string");
   }
 
-  private final PredicateFactory<JdbcPredicate> predicateFactory = new JdbcPredicateFactory(FIELD_MAPPINGS).withZoneOffset(ZoneOffset.UTC);
+  private final PredicateFactory<JdbcPredicate> predicateFactory = new JdbcPredicateFactory(FIELD_MAPPINGS, ZoneOffset.UTC);
 
   @Test
   void shouldMatchBoolean() throws Exception
@@ -468,6 +472,34 @@ class JdbcPredicateFactoryTest
     assertThrows(QueryException.class, () -> this.predicateFactory.notLike("intValue", 1));
   }
 
+  @Test
+  @SuppressWarnings("deprecation")
+  void shouldNotChangeZoneOffsetOfExistingFactory() throws Exception
+  {
+    LocalDate localDate = LocalDate.of(2023, OCTOBER, 10);
+    ZoneOffset zoneOffset = ZoneOffset.ofHours(1);
+
+    JdbcPredicateFactory predicateFactory = new JdbcPredicateFactory(FIELD_MAPPINGS);
+    JdbcPredicateFactory offsetPredicateFactory = predicateFactory.withZoneOffset(zoneOffset);
+
+    assertNotSame(predicateFactory, offsetPredicateFactory);
+    assertTrue(offsetPredicateFactory.isReusable());
+
+    assertPredicate(
+      predicateFactory.equal("localDateValue", localDate),
+      "localDate = " + localDate,
+      "localDate = ?",
+      preparedStatement -> verify(preparedStatement).setDate(1, new Date(localDate.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()))
+    );
+
+    assertPredicate(
+      offsetPredicateFactory.equal("localDateValue", localDate),
+      "localDate = " + localDate,
+      "localDate = ?",
+      preparedStatement -> verify(preparedStatement).setDate(1, new Date(localDate.atStartOfDay(zoneOffset).toInstant().toEpochMilli()))
+    );
+  }
+
   @Test
   void shouldMatchLocalDate() throws Exception
   {
@@ -856,6 +888,60 @@ class JdbcPredicateFactoryTest
     );
   }
 
+  @Test
+  void shouldMatchAndList() throws Exception
+  {
+    assertPredicate(
+      this.predicateFactory.and(
+        List.of(
+          this.predicateFactory.equal("stringValue", "Testing"),
+          this.predicateFactory.equal("intValue", 123),
+          this.predicateFactory.equal("longValue", 456L)
+        )
+      ),
+      "string = Testing AND int = 123 AND long = 456",
+      "string = ? AND int = ? AND long = ?",
+      preparedStatement -> {
+        verify(preparedStatement).setObject(1, "Testing");
+        verify(preparedStatement).setInt(2, 123);
+        verify(preparedStatement).setLong(3, 456L);
+      }
+    );
+  }
+
+  @Test
+  void shouldMatchOrList() throws Exception
+  {
+    assertPredicate(
+      this.predicateFactory.or(
+        List.of(
+          this.predicateFactory.equal("stringValue", "Testing"),
+          this.predicateFactory.equal("intValue", 123),
+          this.predicateFactory.equal("longValue", 456L)
+        )
+      ),
+      "string = Testing OR int = 123 OR long = 456",
+      "string = ? OR int = ? OR long = ?",
+      preparedStatement -> {
+        verify(preparedStatement).setObject(1, "Testing");
+        verify(preparedStatement).setInt(2, 123);
+        verify(preparedStatement).setLong(3, 456L);
+      }
+    );
+  }
+
+  @Test
+  void shouldMatchConstant() throws Exception
+  {
+    assertPredicate(this.predicateFactory.constant(true), "1 = 1", "1 = 1", Mockito::verifyNoInteractions);
+    assertPredicate(this.predicateFactory.constant(false), "1 = 0", "1 = 0", Mockito::verifyNoInteractions);
+
+    assertTrue(JdbcPredicateFactory.isAlwaysTrue(this.predicateFactory.constant(true)));
+    assertFalse(JdbcPredicateFactory.isAlwaysTrue(this.predicateFactory.constant(false)));
+    assertTrue(JdbcPredicateFactory.isAlwaysFalse(this.predicateFactory.constant(false)));
+    assertFalse(JdbcPredicateFactory.isAlwaysFalse(this.predicateFactory.equal("intValue", 1)));
+  }
+
   @Test
   void shouldMatchMultipleLogicalOperatorsWithParenthesis() throws Exception
   {
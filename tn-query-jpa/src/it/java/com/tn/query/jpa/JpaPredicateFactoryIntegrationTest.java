@@ -3,7 +3,9 @@ package com.tn.query.jpa;
 import static java.util.Collections.emptyList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,6 +37,9 @@ import com.tn.query.ValueMappers;
 @ContextConfiguration(classes = JpaPredicateFactoryIntegrationTest.TestConfiguration.class)
 class JpaPredicateFactoryIntegrationTest
 {
+  @Autowired
+  EntityManager entityManager;
+
   @Autowired
   TargetRepository targetRepository;
 
@@ -824,6 +829,57 @@ class JpaPredicateFactoryIntegrationTest
     assertFindWhere("booleanValue = false || (stringValue = X && intValue = 1)");
   }
 
+  @Test
+  @Transactional
+  void shouldFindNothingWhenUnsatisfiable()
+  {
+    Target target = new Target();
+    target.intValue = 1;
+
+    this.targetRepository.save(target);
+
+    CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+    CriteriaQuery<Target> criteriaQuery = criteriaBuilder.createQuery(Target.class);
+
+    TargetRepositoryImpl targetRepository = new TargetRepositoryImpl(
+      this.entityManager,
+      criteriaQuery,
+      new DefaultQueryParser<>(
+        new JpaPredicateFactory(criteriaBuilder, NameMappings.forFields(Target.class, criteriaQuery)),
+        ValueMappers.forFields(Target.class)
+      ).withOptimizer()
+    );
+
+    assertEquals(List.of(target), targetRepository.findWhere("intValue = 1"));
+    assertEquals(emptyList(), targetRepository.findWhere("intValue = 1 && intValue = 2"));
+    assertEquals(emptyList(), targetRepository.findWhere("intValue < 3 && intValue > 10"));
+
+    //Without the optimizer the same queries reach the database and still find nothing.
+    assertFindWhere("intValue = 1 && intValue = 2", emptyList());
+    assertFindWhere("intValue < 3 && intValue > 10", emptyList());
+  }
+
+  @Test
+  @Transactional
+  void shouldFindWithConstant()
+  {
+    Target target = new Target();
+    this.targetRepository.save(target);
+
+    CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+    CriteriaQuery<Target> criteriaQuery = criteriaBuilder.createQuery(Target.class);
+
+    JpaPredicateFactory predicateFactory = new JpaPredicateFactory(criteriaBuilder, NameMappings.forFields(Target.class, criteriaQuery));
+
+    assertTrue(JpaPredicateFactory.isAlwaysTrue(predicateFactory.constant(true)));
+    assertFalse(JpaPredicateFactory.isAlwaysTrue(predicateFactory.constant(false)));
+    assertTrue(JpaPredicateFactory.isAlwaysFalse(predicateFactory.constant(false)));
+    assertFalse(JpaPredicateFactory.isAlwaysFalse(predicateFactory.equal("intValue", 1)));
+
+    assertEquals(List.of(target), new TargetRepositoryImpl(this.entityManager, criteriaQuery, s -> predicateFactory.constant(true)).findWhere("ignored"));
+    assertEquals(emptyList(), new TargetRepositoryImpl(this.entityManager, criteriaQuery, s -> predicateFactory.constant(false)).findWhere("ignored"));
+  }
+
   private void assertFindWhere(String query, Target... expected)
   {
     assertFindWhere(query, List.of(expected));
@@ -1,5 +1,10 @@
 package com.tn.query.jpa;
 
+import static java.util.Collections.emptyList;
+
+import static com.tn.query.jpa.JpaPredicateFactory.isAlwaysFalse;
+import static com.tn.query.jpa.JpaPredicateFactory.isAlwaysTrue;
+
 import java.util.List;
 
 import jakarta.persistence.EntityManager;
@@ -24,6 +29,9 @@ public abstract class AbstractQueryableRepository<T> implements QueryableReposit
   @Override
   public List<T> findWhere(String predicate)
   {
-    return this.entityManager.createQuery(this.criteriaQuery.where(this.queryParser.parse(predicate))).getResultList();
+    Predicate where = this.queryParser.parse(predicate);
+    if (isAlwaysFalse(where)) return emptyList();
+
+    return this.entityManager.createQuery(isAlwaysTrue(where) ? this.criteriaQuery.where() : this.criteriaQuery.where(where)).getResultList();
   }
 }
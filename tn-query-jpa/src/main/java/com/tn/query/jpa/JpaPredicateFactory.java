@@ -13,6 +13,8 @@ import com.tn.query.QueryParseException;
 
 public class JpaPredicateFactory implements PredicateFactory<Predicate>
 {
+  private static final String ALIAS_ALWAYS_FALSE = "tn-query-always-false";
+  private static final String ALIAS_ALWAYS_TRUE = "tn-query-always-true";
   private static final String LIKE_WILDCARD = "%";
   private static final String WILDCARD = "*";
 
@@ -98,6 +100,27 @@ public class JpaPredicateFactory implements PredicateFactory<Predicate>
     return this.criteriaBuilder.or(new Predicate[]{left, right});
   }
 
+  @Override
+  public Predicate and(List<Predicate> predicates)
+  {
+    return this.criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+  }
+
+  @Override
+  public Predicate or(List<Predicate> predicates)
+  {
+    return this.criteriaBuilder.or(predicates.toArray(new Predicate[0]));
+  }
+
+  @Override
+  public Predicate constant(boolean value)
+  {
+    //The alias marks the predicate so it can be recognized later; criteria builders create a new instance for each conjunction or disjunction.
+    return value ?
+      (Predicate)this.criteriaBuilder.conjunction().alias(ALIAS_ALWAYS_TRUE) :
+      (Predicate)this.criteriaBuilder.disjunction().alias(ALIAS_ALWAYS_FALSE);
+  }
+
   @Override
   public Predicate parenthesis(Predicate node)
   {
@@ -105,6 +128,16 @@ public class JpaPredicateFactory implements PredicateFactory<Predicate>
     return node;
   }
 
+  public static boolean isAlwaysFalse(Predicate predicate)
+  {
+    return ALIAS_ALWAYS_FALSE.equals(predicate.getAlias());
+  }
+
+  public static boolean isAlwaysTrue(Predicate predicate)
+  {
+    return ALIAS_ALWAYS_TRUE.equals(predicate.getAlias());
+  }
+
   private <T> Expression<T> nameMapping(String left)
   {
     //noinspection unchecked
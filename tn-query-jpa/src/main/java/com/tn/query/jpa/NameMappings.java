@@ -5,16 +5,17 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Root;
 
+import com.tn.query.FieldDescriptor;
+import com.tn.query.FieldRegistry;
+
 public class NameMappings
 {
   private NameMappings()
@@ -38,9 +39,8 @@ public class NameMappings
 
   private static Collection<String> fieldNames(Class<?> subject, Collection<String> ignored)
   {
-    return Stream.of(subject.getDeclaredFields())
-      .filter(field -> !field.isSynthetic())
-      .map(Field::getName)
+    return FieldRegistry.fields(subject).stream()
+      .map(FieldDescriptor::name)
       .filter(fieldName -> !ignored.contains(fieldName))
       .collect(toUnmodifiableSet());
   }
@@ -0,0 +1,320 @@
+package com.tn.query.processor;
+
+import static java.lang.Character.isUpperCase;
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+@SupportedAnnotationTypes(QueryableProcessor.QUERYABLE)
+public class QueryableProcessor extends AbstractProcessor
+{
+  static final String QUERYABLE = "com.tn.query.Queryable";
+
+  private static final String COMPARABLE = "java.lang.Comparable";
+  private static final String GETTER = "com.tn.query.java.Getter";
+  private static final String SUFFIX = "Fields";
+  private static final String UNDERSCORE = "_";
+
+  private static final Map<String, String> GETTERS = Map.ofEntries(
+    Map.entry("boolean", "booleanValue"),
+    Map.entry("byte", "byteValue"),
+    Map.entry("char", "charValue"),
+    Map.entry("double", "primitiveDouble"),
+    Map.entry("float", "floatValue"),
+    Map.entry("int", "primitiveInt"),
+    Map.entry("long", "primitiveLong"),
+    Map.entry("short", "shortValue"),
+    Map.entry("java.lang.Boolean", "booleanValue"),
+    Map.entry("java.lang.Byte", "byteValue"),
+    Map.entry("java.lang.Character", "charValue"),
+    Map.entry("java.lang.Double", "doubleValue"),
+    Map.entry("java.lang.Float", "floatValue"),
+    Map.entry("java.lang.Integer", "intValue"),
+    Map.entry("java.lang.Long", "longValue"),
+    Map.entry("java.lang.Short", "shortValue")
+  );
+
+  private static final Map<String, String> MAPPERS = Map.ofEntries(
+    Map.entry("boolean", "toBoolean"),
+    Map.entry("byte", "toByte"),
+    Map.entry("char", "toChar"),
+    Map.entry("double", "toDouble"),
+    Map.entry("float", "toFloat"),
+    Map.entry("int", "toInt"),
+    Map.entry("long", "toLong"),
+    Map.entry("short", "toShort"),
+    Map.entry("java.lang.Boolean", "toBoolean"),
+    Map.entry("java.lang.Byte", "toByte"),
+    Map.entry("java.lang.Character", "toChar"),
+    Map.entry("java.lang.Double", "toDouble"),
+    Map.entry("java.lang.Float", "toFloat"),
+    Map.entry("java.lang.Integer", "toInt"),
+    Map.entry("java.lang.Long", "toLong"),
+    Map.entry("java.lang.Short", "toShort"),
+    Map.entry("java.lang.String", "toString"),
+    Map.entry("java.time.LocalDate", "toLocalDate"),
+    Map.entry("java.time.LocalDateTime", "toLocalDateTime"),
+    Map.entry("java.util.Date", "toDate")
+  );
+
+  @Override
+  public SourceVersion getSupportedSourceVersion()
+  {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment)
+  {
+    for (TypeElement annotation : annotations)
+    {
+      for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(annotation)))
+      {
+        if (isAccessible(type)) generate(type);
+        else error(type, "@Queryable types must not be private: " + type.getQualifiedName());
+      }
+    }
+
+    return true;
+  }
+
+  private void generate(TypeElement type)
+  {
+    String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String name = holderName(type);
+    String subject = this.processingEnv.getTypeUtils().erasure(type.asType()).toString();
+    List<Field> fields = fields(type);
+
+    try (PrintWriter writer = new PrintWriter(this.processingEnv.getFiler().createSourceFile(qualified(packageName, name), type).openWriter()))
+    {
+      if (!packageName.isEmpty()) writer.printf("package %s;%n%n", packageName);
+
+      writer.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+      writer.printf("public final class %s%n{%n", name);
+
+      writer.printf(
+        "  private static final java.util.Map<String, String> COLUMN_NAMES = java.util.Map.ofEntries(%s);%n",
+        join(fields, field -> String.format("java.util.Map.entry(\"%s\", \"%s\")", field.name(), columnName(field.name())))
+      );
+
+      if (isGetterAvailable())
+      {
+        writer.printf(
+          "  private static final java.util.List<com.tn.query.java.Getter<%s>> GETTERS = java.util.List.of(%s);%n",
+          subject,
+          join(fields.stream().filter(field -> field.getter() != null).toList(), field -> String.format("com.tn.query.java.Getter.%s(\"%s\", %s)", field.getter(), field.name(), field.accessor()))
+        );
+      }
+
+      writer.printf(
+        "  private static final java.util.List<com.tn.query.Mapper> MAPPERS = java.util.List.of(%s);%n%n",
+        join(fields.stream().filter(field -> field.mapper() != null).toList(), field -> String.format("com.tn.query.Mapper.%s(\"%s\")", field.mapper(), field.name()))
+      );
+
+      writer.printf("  private %s() {}%n%n", name);
+
+      writer.printf("  public static java.util.Map<String, String> columnNames()%n  {%n    return COLUMN_NAMES;%n  }%n%n");
+
+      if (isGetterAvailable())
+      {
+        writer.printf("  public static java.util.List<com.tn.query.java.Getter<%s>> getters()%n  {%n    return GETTERS;%n  }%n%n", subject);
+      }
+
+      writer.printf("  public static java.util.List<com.tn.query.Mapper> mappers()%n  {%n    return MAPPERS;%n  }%n");
+      writer.printf("}%n");
+    }
+    catch (IOException e)
+    {
+      error(type, "Failed to generate: " + qualified(packageName, name) + ", " + e.getMessage());
+    }
+  }
+
+  private List<Field> fields(TypeElement type)
+  {
+    List<Field> fields = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+
+    //Fields are walked as FieldRegistry walks them at runtime, a field declared in a subclass shadowing any inherited field with the same name.
+    for (TypeElement declaringType = type; declaringType != null; declaringType = superclass(declaringType))
+    {
+      for (VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements()))
+      {
+        //Static fields describe the type rather than each instance, so they cannot be queried.
+        if (field.getModifiers().contains(Modifier.STATIC) || !names.add(field.getSimpleName().toString())) continue;
+
+        fields.add(field(type, field));
+      }
+    }
+
+    return fields;
+  }
+
+  private Field field(TypeElement type, VariableElement field)
+  {
+
+    String name = field.getSimpleName().toString();
+    String typeName = typeName(field.asType());
+    String accessor = accessor(type, field);
+    String getter = getter(field.asType(), typeName);
+
+    if (getter != null && accessor == null) warning(field, "No accessible getter for: " + name);
+
+    return new Field(name, MAPPERS.get(typeName), accessor != null ? getter : null, accessor);
+  }
+
+  private TypeElement superclass(TypeElement type)
+  {
+    if (type.getSuperclass().getKind() != TypeKind.DECLARED) return null;
+
+    TypeElement superclass = (TypeElement)this.processingEnv.getTypeUtils().asElement(type.getSuperclass());
+    return superclass.getQualifiedName().contentEquals(Object.class.getName()) ? null : superclass;
+  }
+
+  private String accessor(TypeElement type, VariableElement field)
+  {
+    String name = field.getSimpleName().toString();
+
+    if (type.getKind() == ElementKind.RECORD)
+    {
+      for (RecordComponentElement component : type.getRecordComponents())
+      {
+        if (component.getSimpleName().contentEquals(name)) return methodReference(type, component.getAccessor());
+      }
+    }
+
+    for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type)))
+    {
+      if (isGetter(method, field) && isAccessible(type, method)) return methodReference(type, method);
+    }
+
+    return !isAccessible(type, field) ? null : "(" + this.processingEnv.getTypeUtils().erasure(type.asType()) + " target) -> target." + name;
+  }
+
+  private String methodReference(TypeElement type, ExecutableElement method)
+  {
+    return this.processingEnv.getTypeUtils().erasure(type.asType()) + "::" + method.getSimpleName();
+  }
+
+  private String getter(TypeMirror type, String typeName)
+  {
+    String getter = GETTERS.get(typeName);
+    if (getter != null) return getter;
+
+    TypeMirror comparable = this.processingEnv.getTypeUtils().erasure(this.processingEnv.getElementUtils().getTypeElement(COMPARABLE).asType());
+    return this.processingEnv.getTypeUtils().isAssignable(this.processingEnv.getTypeUtils().erasure(type), comparable) ? "comparableValue" : null;
+  }
+
+  private boolean isGetterAvailable()
+  {
+    //Getters are only generated when tn-query-java is on the classpath.
+    return this.processingEnv.getElementUtils().getTypeElement(GETTER) != null;
+  }
+
+  private String typeName(TypeMirror type)
+  {
+    return type.getKind() == TypeKind.DECLARED || type.getKind().isPrimitive() ? this.processingEnv.getTypeUtils().erasure(type).toString() : type.toString();
+  }
+
+  private void error(Element element, String message)
+  {
+    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private void warning(Element element, String message)
+  {
+    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+  }
+
+  private static boolean isAccessible(TypeElement type)
+  {
+    for (Element element = type; !(element instanceof PackageElement); element = element.getEnclosingElement())
+    {
+      if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+    }
+
+    return true;
+  }
+
+  private boolean isAccessible(TypeElement type, Element member)
+  {
+    //The generated holder is in the package of the type, so it cannot read private members, or protected members inherited from another package.
+    if (member.getModifiers().contains(Modifier.PUBLIC)) return true;
+    if (member.getModifiers().contains(Modifier.PRIVATE)) return false;
+
+    return this.processingEnv.getElementUtils().getPackageOf(member).equals(this.processingEnv.getElementUtils().getPackageOf(type));
+  }
+
+  private boolean isGetter(ExecutableElement method, VariableElement field)
+  {
+    if (!method.getParameters().isEmpty() || method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) return false;
+    //The getter is generated for the type of the field, so a method returning anything else cannot be used for it.
+    if (!this.processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) return false;
+
+    String name = field.getSimpleName().toString();
+    String capitalized = toUpperCase(name.charAt(0)) + name.substring(1);
+
+    return method.getSimpleName().contentEquals("get" + capitalized) || method.getSimpleName().contentEquals("is" + capitalized);
+  }
+
+  private static String holderName(TypeElement type)
+  {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    for (Element element = type.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement())
+    {
+      name.insert(0, UNDERSCORE).insert(0, element.getSimpleName());
+    }
+
+    return name.append(SUFFIX).toString();
+  }
+
+  private static String columnName(String fieldName)
+  {
+    StringBuilder columnName = new StringBuilder();
+
+    for (int i = 0; i < fieldName.length(); i++)
+    {
+      char c = fieldName.charAt(i);
+      if (isUpperCase(c)) columnName.append(UNDERSCORE).append(toLowerCase(c));
+      else columnName.append(c);
+    }
+
+    return columnName.toString();
+  }
+
+  private static String qualified(String packageName, String name)
+  {
+    return packageName.isEmpty() ? name : packageName + "." + name;
+  }
+
+  private static String join(List<Field> fields, Function<Field, String> format)
+  {
+    return fields.stream().map(format).map(s -> "\n    " + s).collect(Collectors.joining(",")) + (fields.isEmpty() ? "" : "\n  ");
+  }
+
+  private record Field(String name, String mapper, String getter, String accessor) {}
+}
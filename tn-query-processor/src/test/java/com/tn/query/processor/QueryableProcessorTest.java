@@ -0,0 +1,314 @@
+package com.tn.query.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tn.query.Mapper;
+import com.tn.query.ValueMappers;
+import com.tn.query.java.Getter;
+
+class QueryableProcessorTest
+{
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldGenerateForClass() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Person",
+      """
+      package test;
+
+      @com.tn.query.Queryable
+      public class Person
+      {
+        private static final long serialVersionUID = 1L;
+
+        private int id;
+        private String firstName;
+        private boolean active;
+        long count;
+        private Object other;
+
+        public Person(int id, String firstName, boolean active, long count)
+        {
+          this.id = id;
+          this.firstName = firstName;
+          this.active = active;
+          this.count = count;
+        }
+
+        public int getId() { return this.id; }
+        public String getFirstName() { return this.firstName; }
+        public boolean isActive() { return this.active; }
+      }
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertEquals(
+      List.of(Mapper.toInt("id"), Mapper.toString("firstName"), Mapper.toBoolean("active"), Mapper.toLong("count")),
+      compilation.invoke("test.PersonFields", "mappers")
+    );
+    assertEquals(
+      Map.of("id", "id", "firstName", "first_name", "active", "active", "count", "count", "other", "other"),
+      compilation.invoke("test.PersonFields", "columnNames")
+    );
+    //Static fields are skipped both when generating and when the mappers are found at runtime.
+    assertEquals(ValueMappers.forFields(compilation.load("test.Person")), compilation.invoke("test.PersonFields", "mappers"));
+
+    Object person = compilation.load("test.Person").getConstructor(int.class, String.class, boolean.class, long.class).newInstance(1, "John", true, 2L);
+    assertEquals(
+      Map.of("id", 1, "firstName", "John", "active", true, "count", 2L),
+      values(compilation.invoke("test.PersonFields", "getters"), person)
+    );
+  }
+
+  @Test
+  void shouldGenerateForRecord() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Account",
+      """
+      package test;
+
+      @com.tn.query.Queryable
+      public record Account(long accountId, java.time.LocalDate opened, Double balance) {}
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertEquals(
+      List.of(Mapper.toLong("accountId"), Mapper.toLocalDate("opened"), Mapper.toDouble("balance")),
+      compilation.invoke("test.AccountFields", "mappers")
+    );
+    assertEquals(
+      Map.of("accountId", "account_id", "opened", "opened", "balance", "balance"),
+      compilation.invoke("test.AccountFields", "columnNames")
+    );
+
+    Object account = compilation.load("test.Account").getConstructor(long.class, java.time.LocalDate.class, Double.class).newInstance(3L, java.time.LocalDate.of(2020, 1, 2), 4.5);
+    assertEquals(
+      Map.of("accountId", 3L, "opened", java.time.LocalDate.of(2020, 1, 2), "balance", 4.5),
+      values(compilation.invoke("test.AccountFields", "getters"), account)
+    );
+  }
+
+  @Test
+  void shouldGenerateForInheritedFields() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Employee",
+      """
+      package test;
+
+      @com.tn.query.Queryable
+      public class Employee extends Base
+      {
+        private String name;
+        private boolean active;
+
+        public Employee(long id, String name, boolean active, int level)
+        {
+          super(id, "Base" + name, level);
+          this.name = name;
+          this.active = active;
+        }
+
+        public String getName() { return this.name; }
+        public boolean isActive() { return this.active; }
+      }
+
+      class Base
+      {
+        private long id;
+        private String name;
+        protected int level;
+
+        Base(long id, String name, int level)
+        {
+          this.id = id;
+          this.name = name;
+          this.level = level;
+        }
+
+        public long getId() { return this.id; }
+      }
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertEquals(
+      List.of(Mapper.toString("name"), Mapper.toBoolean("active"), Mapper.toLong("id"), Mapper.toInt("level")),
+      compilation.invoke("test.EmployeeFields", "mappers")
+    );
+    assertEquals(ValueMappers.forFields(compilation.load("test.Employee")), compilation.invoke("test.EmployeeFields", "mappers"));
+    assertEquals(
+      Map.of("name", "name", "active", "active", "id", "id", "level", "level"),
+      compilation.invoke("test.EmployeeFields", "columnNames")
+    );
+
+    Object employee = compilation.load("test.Employee").getConstructor(long.class, String.class, boolean.class, int.class).newInstance(1L, "Jane", true, 3);
+    assertEquals(
+      Map.of("name", "Jane", "active", true, "id", 1L, "level", 3),
+      values(compilation.invoke("test.EmployeeFields", "getters"), employee)
+    );
+  }
+
+  @Test
+  void shouldGenerateForNestedType() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Outer",
+      """
+      package test;
+
+      public class Outer
+      {
+        @com.tn.query.Queryable
+        public record Inner(String value) {}
+      }
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertEquals(List.of(Mapper.toString("value")), compilation.invoke("test.Outer_InnerFields", "mappers"));
+  }
+
+  @Test
+  void shouldWarnWhenFieldNotReadable() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Hidden",
+      """
+      package test;
+
+      @com.tn.query.Queryable
+      public class Hidden
+      {
+        private int value;
+      }
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertTrue(compilation.diagnostics().contains("No accessible getter for: value"), compilation.diagnostics());
+    assertEquals(List.of(Mapper.toInt("value")), compilation.invoke("test.HiddenFields", "mappers"));
+    assertEquals(List.of(), compilation.invoke("test.HiddenFields", "getters"));
+  }
+
+  @Test
+  void shouldNotUseGetterOfAnotherType() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Converted",
+      """
+      package test;
+
+      @com.tn.query.Queryable
+      public class Converted
+      {
+        private int value;
+
+        public String getValue() { return String.valueOf(this.value); }
+      }
+      """
+    );
+
+    assertTrue(compilation.isSuccess(), compilation.diagnostics());
+    assertTrue(compilation.diagnostics().contains("No accessible getter for: value"), compilation.diagnostics());
+    assertEquals(List.of(), compilation.invoke("test.ConvertedFields", "getters"));
+  }
+
+  @Test
+  void shouldNotGenerateForPrivateType() throws Exception
+  {
+    Compilation compilation = compile(
+      "test.Outer",
+      """
+      package test;
+
+      public class Outer
+      {
+        @com.tn.query.Queryable
+        private record Inner(String value) {}
+      }
+      """
+    );
+
+    assertFalse(compilation.isSuccess());
+    assertTrue(compilation.diagnostics().contains("@Queryable types must not be private: test.Outer.Inner"), compilation.diagnostics());
+  }
+
+  private Compilation compile(String className, String source) throws IOException
+  {
+    Path sources = Files.createDirectories(this.directory.resolve("sources"));
+    Path classes = Files.createDirectories(this.directory.resolve("classes"));
+
+    Path file = sources.resolve(className.replace('.', File.separatorChar) + ".java");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, source);
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null))
+    {
+      JavaCompiler.CompilationTask task = compiler.getTask(
+        null,
+        fileManager,
+        diagnostics,
+        List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", sources.toString()),
+        null,
+        fileManager.getJavaFileObjects(file)
+      );
+      task.setProcessors(List.of(new QueryableProcessor()));
+
+      boolean success = task.call();
+
+      return new Compilation(
+        success,
+        diagnostics.getDiagnostics().stream().map(diagnostic -> diagnostic.getKind() + ": " + diagnostic.getMessage(null)).collect(Collectors.joining("\n")),
+        new URLClassLoader(new java.net.URL[]{classes.toUri().toURL()}, getClass().getClassLoader())
+      );
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Map<String, Object> values(Object getters, Object target)
+  {
+    return ((List<Getter>)getters).stream().collect(Collectors.toMap(Getter::name, getter -> getter.get(target)));
+  }
+
+  private record Compilation(boolean isSuccess, String diagnostics, ClassLoader classLoader)
+  {
+    Class<?> load(String className) throws ClassNotFoundException
+    {
+      return this.classLoader.loadClass(className);
+    }
+
+    Object invoke(String className, String methodName) throws Exception
+    {
+      return load(className).getMethod(methodName).invoke(null);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.tn.query;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class DateParserBenchmark
+{
+  private static final Mapper MAPPER = Mapper.toDate("date");
+
+  @Param({"2022-04-24", "2022-04-24T18:46", "2022-04-24T18:46:12", "2022-04-24T18:46:12.123"})
+  public String value;
+
+  //The SimpleDateFormat baseline is not thread-safe, so it is only measured on a single thread.
+  @Benchmark
+  public Date simpleDateFormat()
+  {
+    return SimpleDateFormatParser.parse(this.value);
+  }
+
+  @Benchmark
+  public Object dateParser()
+  {
+    return MAPPER.map(this.value);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object dateParserConcurrent()
+  {
+    return MAPPER.map(this.value);
+  }
+
+  //The implementation Mapper.toDate used before DateParser, kept here as the baseline.
+  private static class SimpleDateFormatParser
+  {
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-M-d");
+    private static final SimpleDateFormat DATE_TIME_MINUTES_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m");
+    private static final SimpleDateFormat DATE_TIME_SECONDS_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m:s");
+    private static final SimpleDateFormat DATE_TIME_MILLISECONDS_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m:s.S");
+    private static final int MAX_DATE_LENGTH = 10;
+    private static final char MILLI_SEPARATOR = '.';
+    private static final char TIME_SEPARATOR = ':';
+    private static final int TIME_WITH_MINUTES = 1;
+
+    static Date parse(String s)
+    {
+      try
+      {
+        if (s.length() <= MAX_DATE_LENGTH) return DATE_FORMAT.parse(s);
+        if (s.chars().filter(c -> c == TIME_SEPARATOR).count() == TIME_WITH_MINUTES) return DATE_TIME_MINUTES_FORMAT.parse(s);
+
+        return s.indexOf(MILLI_SEPARATOR) > -1 ? DATE_TIME_MILLISECONDS_FORMAT.parse(s) : DATE_TIME_SECONDS_FORMAT.parse(s);
+      }
+      catch (ParseException e)
+      {
+        throw new QueryParseException("Invalid date: " + s, e);
+      }
+    }
+  }
+}
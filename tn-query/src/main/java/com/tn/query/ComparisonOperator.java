@@ -1,10 +1,9 @@
 package com.tn.query;
 
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
+import com.tn.query.node.AbstractNodeVisitor;
 import com.tn.query.node.ComparisonNode;
 import com.tn.query.node.Equal;
 import com.tn.query.node.GreaterThan;
@@ -13,6 +12,8 @@ import com.tn.query.node.In;
 import com.tn.query.node.LessThan;
 import com.tn.query.node.LessThanOrEqual;
 import com.tn.query.node.Like;
+import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
 import com.tn.query.node.NotEqual;
 import com.tn.query.node.NotLike;
 
@@ -20,154 +21,201 @@ public enum ComparisonOperator
 {
   EQUAL(
     "=",
-    ComparisonOperator::matchesEqual,
     Equal::new
   ),
 
   NOT_EQUAL(
     "!=",
-    ComparisonOperator::matchesNotEqual,
     NotEqual::new
   ),
 
   GREATER_THAN(
     ">",
-    ComparisonOperator::matchesGreaterThan,
     GreaterThan::new
   ),
 
   GREATER_THAN_OR_EQUAL(
     ">=",
-    ComparisonOperator::matchesGreaterThanOrEqual,
     GreaterThanOrEqual::new
   ),
 
   LESS_THAN(
     "<",
-    ComparisonOperator::matchesLessThan,
     LessThan::new
   ),
 
   LESS_THAN_OR_EQUAL(
     "<=",
-    ComparisonOperator::matchesLessThanOrEqual,
     LessThanOrEqual::new
   ),
 
   LIKE(
     "≈",
-    ComparisonOperator::matchesLike,
     Like::new
   ),
 
   NOT_LIKE(
     "!≈",
-    ComparisonOperator::matchesNotLike,
     NotLike::new
   ),
 
   IN(
     "∈",
-    ComparisonOperator::matchesIn,
     In::new
   );
 
-  private static final int EXPECTED_TOKENS = 2;
-  private static final int INDEX_LEFT = 0;
-  private static final int INDEX_RIGHT = 1;
-  private static final String REGEX_EQUAL = "^.+\\s*=\\s*.+$";
-  private static final String REGEX_NOT_EQUAL = "^.+\\s*!=\\s*.+$";
-  private static final String REGEX_GREATER_THAN = "^.+\\s*>\\s*.+$";
-  private static final String REGEX_GREATER_THAN_OR_EQUAL = "^.+\\s*>=\\s*.+$";
-  private static final String REGEX_LESS_THAN = "^.+\\s*<\\s*.+$";
-  private static final String REGEX_LESS_THAN_OR_EQUAL = "^.+\\s*<=\\s*.+$";
-  private static final String REGEX_LIKE = "^.+\\s*≈\\s*.+$";
-  private static final String REGEX_NOT_LIKE = "^.+\\s*!≈\\s*.+$";
-  private static final String REGEX_IN = "^.+\\s*∈\\s*.+$";
+  private static final int NOT_FOUND = -1;
+  private static final char SYMBOL_EQUAL = '=';
+  private static final char SYMBOL_GREATER = '>';
+  private static final char SYMBOL_IN = '∈';
+  private static final char SYMBOL_LESS = '<';
+  private static final char SYMBOL_LIKE = '≈';
+  private static final char SYMBOL_NOT = '!';
+
+  private static final NodeVisitor<ComparisonOperator> OPERATORS = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public ComparisonOperator visit(Equal node)
+    {
+      return EQUAL;
+    }
+
+    @Override
+    public ComparisonOperator visit(GreaterThan node)
+    {
+      return GREATER_THAN;
+    }
+
+    @Override
+    public ComparisonOperator visit(GreaterThanOrEqual node)
+    {
+      return GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ComparisonOperator visit(In node)
+    {
+      return IN;
+    }
+
+    @Override
+    public ComparisonOperator visit(LessThan node)
+    {
+      return LESS_THAN;
+    }
+
+    @Override
+    public ComparisonOperator visit(LessThanOrEqual node)
+    {
+      return LESS_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ComparisonOperator visit(Like node)
+    {
+      return LIKE;
+    }
+
+    @Override
+    public ComparisonOperator visit(NotEqual node)
+    {
+      return NOT_EQUAL;
+    }
+
+    @Override
+    public ComparisonOperator visit(NotLike node)
+    {
+      return NOT_LIKE;
+    }
+
+    @Override
+    protected ComparisonOperator visitNode(Node node)
+    {
+      return null;
+    }
+  };
 
   private final BiFunction<Object, Object, ComparisonNode> nodeFactory;
-  private final Predicate<String> queryPartMatcher;
   private final String symbol;
 
-  ComparisonOperator(String symbol, Predicate<String> queryPartMatcher, BiFunction<Object, Object, ComparisonNode> nodeFactory)
+  ComparisonOperator(String symbol, BiFunction<Object, Object, ComparisonNode> nodeFactory)
   {
     this.symbol = symbol;
-    this.queryPartMatcher = queryPartMatcher;
     this.nodeFactory = nodeFactory;
   }
 
   public static @Nonnull ComparisonNode parseNode(@Nonnull String queryPart)
   {
-    return Stream.of(ComparisonOperator.values())
-      .filter(comparisonOperator -> comparisonOperator.matches(queryPart))
-      .findFirst()
-      .map(comparisonOperator -> comparisonOperator.parse(queryPart))
-      .orElseThrow(() -> new QueryParseException("Illegal query part: " + queryPart));
-  }
+    int index = indexOf(queryPart, 0);
+    if (index == NOT_FOUND) throw new QueryParseException("Illegal query part: " + queryPart);
 
-  boolean matches(@Nonnull String queryPart)
-  {
-    return this.queryPartMatcher.test(queryPart);
+    return at(queryPart, index).parse(queryPart, index);
   }
 
-  ComparisonNode parse(@Nonnull String queryPart) throws QueryParseException
+  static ComparisonOperator of(@Nonnull Node node)
   {
-    if (!matches(queryPart)) throw new IllegalArgumentException("Unmatched query: " + queryPart);
-
-    String[] queryTokens = queryPart.split(this.symbol);
-
-    if (queryTokens.length != EXPECTED_TOKENS) throw new QueryParseException("Invalid query part: " + queryPart);
-
-    return this.nodeFactory.apply(queryTokens[INDEX_LEFT].trim(), queryTokens[INDEX_RIGHT].trim());
+    return node.accept(OPERATORS);
   }
 
-  private static boolean matchesEqual(String queryPart)
+  static ComparisonOperator at(@Nonnull String s, int index)
   {
-    return queryPart.matches(REGEX_EQUAL) &&
-      !matchesNotEqual(queryPart) &&
-      !matchesGreaterThanOrEqual(queryPart) &&
-      !matchesLessThanOrEqual(queryPart);
+    char c = s.charAt(index);
+    char next = index + 1 < s.length() ? s.charAt(index + 1) : 0;
+
+    if (c == SYMBOL_EQUAL) return EQUAL;
+    if (c == SYMBOL_GREATER) return next == SYMBOL_EQUAL ? GREATER_THAN_OR_EQUAL : GREATER_THAN;
+    if (c == SYMBOL_LESS) return next == SYMBOL_EQUAL ? LESS_THAN_OR_EQUAL : LESS_THAN;
+    if (c == SYMBOL_LIKE) return LIKE;
+    if (c == SYMBOL_IN) return IN;
+    if (c == SYMBOL_NOT && next == SYMBOL_EQUAL) return NOT_EQUAL;
+    if (c == SYMBOL_NOT && next == SYMBOL_LIKE) return NOT_LIKE;
+
+    return null;
   }
 
-  private static boolean matchesNotEqual(String queryPart)
+  String symbol()
   {
-    return queryPart.matches(REGEX_NOT_EQUAL);
+    return this.symbol;
   }
 
-  private static boolean matchesGreaterThan(String queryPart)
+  ComparisonNode node(Object left, Object right)
   {
-    return queryPart.matches(REGEX_GREATER_THAN) &&
-      !matchesGreaterThanOrEqual(queryPart);
+    return this.nodeFactory.apply(left, right);
   }
 
-  private static boolean matchesGreaterThanOrEqual(String queryPart)
+  boolean matches(@Nonnull String queryPart)
   {
-    return queryPart.matches(REGEX_GREATER_THAN_OR_EQUAL);
+    int index = indexOf(queryPart, 0);
+    return index != NOT_FOUND && at(queryPart, index) == this;
   }
 
-  private static boolean matchesLessThan(String queryPart)
+  ComparisonNode parse(@Nonnull String queryPart) throws QueryParseException
   {
-    return queryPart.matches(REGEX_LESS_THAN) &&
-      !matchesLessThanOrEqual(queryPart);
-  }
+    int index = indexOf(queryPart, 0);
+    if (index == NOT_FOUND || at(queryPart, index) != this) throw new IllegalArgumentException("Unmatched query: " + queryPart);
 
-  private static boolean matchesLessThanOrEqual(String queryPart)
-  {
-    return queryPart.matches(REGEX_LESS_THAN_OR_EQUAL);
+    return parse(queryPart, index);
   }
 
-  private static boolean matchesLike(String queryPart)
+  private ComparisonNode parse(String queryPart, int index) throws QueryParseException
   {
-    return queryPart.matches(REGEX_LIKE) && !matchesNotLike(queryPart);
-  }
+    int rightIndex = index + this.symbol.length();
+    if (indexOf(queryPart, rightIndex) != NOT_FOUND) throw new QueryParseException("Invalid query part: " + queryPart);
 
-  private static boolean matchesNotLike(String queryPart)
-  {
-    return queryPart.matches(REGEX_NOT_LIKE);
+    String left = queryPart.substring(0, index).trim();
+    String right = queryPart.substring(rightIndex).trim();
+    if (left.isEmpty() || right.isEmpty()) throw new QueryParseException("Invalid query part: " + queryPart);
+
+    return node(left, right);
   }
 
-  private static boolean matchesIn(String queryPart)
+  private static int indexOf(String queryPart, int from)
   {
-    return queryPart.matches(REGEX_IN);
+    for (int i = from; i < queryPart.length(); i++)
+    {
+      if (at(queryPart, i) != null) return i;
+    }
+
+    return NOT_FOUND;
   }
 }
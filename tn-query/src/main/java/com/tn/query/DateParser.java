@@ -0,0 +1,117 @@
+package com.tn.query;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import javax.annotation.Nonnull;
+
+final class DateParser
+{
+  private static final char DATE_SEPARATOR = '-';
+  private static final char DATE_TIME_SEPARATOR = 'T';
+  private static final char FRACTION_SEPARATOR = '.';
+  private static final int INDEX_BITS = 32;
+  private static final long INDEX_MASK = 0xFFFFFFFFL;
+  private static final int MAX_MILLISECOND_DIGITS = 3;
+  private static final int NANOS_PER_MILLISECOND = 1_000_000;
+  private static final char TIME_SEPARATOR = ':';
+  private static final int YEAR_DIGITS = 4;
+
+  private DateParser() {}
+
+  static Date parse(@Nonnull String s) throws QueryParseException
+  {
+    //Each number is returned packed with the index following it, so parsing allocates nothing until the result is built.
+    long year = number(s, 0, YEAR_DIGITS, YEAR_DIGITS);
+    long month = number(s, expect(s, index(year), DATE_SEPARATOR), 1, 2);
+    long day = number(s, expect(s, index(month), DATE_SEPARATOR), 1, 2);
+
+    int index = index(day);
+    int hour = 0;
+    int minute = 0;
+    int second = 0;
+    int nanos = 0;
+
+    if (index < s.length())
+    {
+      long hourNumber = number(s, expect(s, index, DATE_TIME_SEPARATOR), 1, 2);
+      long minuteNumber = number(s, expect(s, index(hourNumber), TIME_SEPARATOR), 1, 2);
+
+      hour = value(hourNumber);
+      minute = value(minuteNumber);
+      index = index(minuteNumber);
+
+      if (index < s.length())
+      {
+        long secondNumber = number(s, expect(s, index, TIME_SEPARATOR), 1, 2);
+
+        second = value(secondNumber);
+        index = index(secondNumber);
+
+        if (index < s.length())
+        {
+          //As with the SimpleDateFormat pattern "S" used previously, the digits are a count of milliseconds, so .5 is 5 milliseconds.
+          long millisecond = number(s, expect(s, index, FRACTION_SEPARATOR), 1, MAX_MILLISECOND_DIGITS);
+
+          nanos = value(millisecond) * NANOS_PER_MILLISECOND;
+          index = index(millisecond);
+        }
+      }
+    }
+
+    if (index != s.length()) throw invalid(s);
+
+    try
+    {
+      LocalDateTime dateTime = LocalDateTime.of(value(year), value(month), value(day), hour, minute, second, nanos);
+      return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+    catch (DateTimeException e)
+    {
+      throw new QueryParseException("Invalid date: " + s, e);
+    }
+  }
+
+  private static long number(String s, int from, int minDigits, int maxDigits)
+  {
+    int index = from;
+    int value = 0;
+
+    while (index < s.length() && index - from < maxDigits && isDigit(s.charAt(index)))
+    {
+      value = value * 10 + (s.charAt(index++) - '0');
+    }
+
+    if (index - from < minDigits) throw invalid(s);
+
+    return (long)value << INDEX_BITS | index;
+  }
+
+  private static int expect(String s, int index, char c)
+  {
+    if (index >= s.length() || s.charAt(index) != c) throw invalid(s);
+
+    return index + 1;
+  }
+
+  private static int index(long number)
+  {
+    return (int)(number & INDEX_MASK);
+  }
+
+  private static int value(long number)
+  {
+    return (int)(number >>> INDEX_BITS);
+  }
+
+  private static boolean isDigit(char c)
+  {
+    return c >= '0' && c <= '9';
+  }
+
+  private static QueryParseException invalid(String s)
+  {
+    return new QueryParseException("Invalid date: " + s);
+  }
+}
@@ -4,14 +4,20 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 import com.tn.query.node.And;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Constant;
+import com.tn.query.node.Disjunction;
 import com.tn.query.node.Equal;
 import com.tn.query.node.GreaterThan;
 import com.tn.query.node.GreaterThanOrEqual;
@@ -20,10 +26,12 @@ import com.tn.query.node.LessThan;
 import com.tn.query.node.LessThanOrEqual;
 import com.tn.query.node.Like;
 import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
 import com.tn.query.node.NotEqual;
 import com.tn.query.node.NotLike;
 import com.tn.query.node.Or;
 import com.tn.query.node.Parenthesis;
+import com.tn.query.node.Placeholder;
 
 public class DefaultQueryParser<T> implements QueryParser<T>
 {
@@ -35,6 +43,11 @@ public class DefaultQueryParser<T> implements QueryParser<T>
   private final Map<Object, Function<String, Object>> mappers;
   private final PredicateFactory<T> predicateFactory;
 
+  private QueryCache<Node> nodeCache;
+  private QueryOptimizer optimizer;
+  private QueryPlanner planner;
+  private QueryCache<T> predicateCache;
+
   public DefaultQueryParser(PredicateFactory<T> predicateFactory)
   {
     this(predicateFactory, emptyList());
@@ -46,53 +59,103 @@ public class DefaultQueryParser<T> implements QueryParser<T>
     this.predicateFactory = predicateFactory;
   }
 
-  @Override
-  public final T parse(String s) throws QueryParseException
+  public DefaultQueryParser<T> withCache(long maximumWeight)
   {
-    return predicate(Query.parse(s));
+    return withCache(maximumWeight, key -> 1);
   }
 
-  public T predicate(Node node)
+  public DefaultQueryParser<T> withCache(long maximumWeight, ToIntFunction<String> weigher)
   {
-    if (node instanceof Parenthesis)
+    if (this.predicateFactory.isReusable())
     {
-      return this.predicateFactory.parenthesis(predicate(((Parenthesis)node).getNode()));
+      this.nodeCache = null;
+      this.predicateCache = new QueryCache<>(maximumWeight, weigher);
     }
     else
     {
-      return predicateForNode(
-        node,
-        node.getLeft() instanceof Node ? predicate((Node)node.getLeft()) : node.getLeft(),
-        node.getRight() instanceof Node ? predicate((Node)node.getRight()) : node.getRight()
-      );
+      this.nodeCache = new QueryCache<>(maximumWeight, weigher);
+      this.predicateCache = null;
     }
+
+    return this;
+  }
+
+  public DefaultQueryParser<T> withOptimizer()
+  {
+    this.optimizer = new QueryOptimizer(this.mappers);
+    return this;
+  }
+
+  public DefaultQueryParser<T> withPlanner()
+  {
+    return withPlanner(new QueryPlanner());
+  }
+
+  public DefaultQueryParser<T> withPlanner(QueryPlanner planner)
+  {
+    this.planner = planner;
+    return this;
+  }
+
+  public Optional<QueryCache<?>> cache()
+  {
+    return Optional.ofNullable(this.predicateCache != null ? this.predicateCache : this.nodeCache);
+  }
+
+  @Override
+  public final T parse(String s) throws QueryParseException
+  {
+    return this.predicateCache != null ? this.predicateCache.get(s, key -> predicate(node(key))) : predicate(node(s));
+  }
+
+  public QueryTemplate<T> template(String s) throws QueryParseException
+  {
+    Node node = Query.parseTemplate(s);
+    //Placeholders are counted before optimizing so the number of values expected does not change if the optimizer removes a predicate.
+    return new QueryTemplate<>(this, prepare(node), QueryTemplate.placeholders(node));
+  }
+
+  public String explain(String s) throws QueryParseException
+  {
+    return (this.planner != null ? this.planner : new QueryPlanner()).explain(node(s));
+  }
+
+  public T predicate(Node node)
+  {
+    return predicate(node, emptyList());
+  }
+
+  T predicate(Node node, List<?> values)
+  {
+    return node.accept(predicateBuilder(values));
   }
 
-  @SuppressWarnings("unchecked")
-  protected T predicateForNode(Node node, Object left, Object right)
+  protected NodeVisitor<T> predicateBuilder(List<?> values)
   {
-    if (node instanceof Equal) return this.predicateFactory.equal((String)left, map(left, right));
-    else if (node instanceof NotEqual) return this.predicateFactory.notEqual((String)left, map(left, right));
-    else if (node instanceof GreaterThan) return this.predicateFactory.greaterThan((String)left, map(left, right));
-    else if (node instanceof GreaterThanOrEqual) return this.predicateFactory.greaterThanOrEqual((String)left, map(left, right));
-    else if (node instanceof LessThan) return this.predicateFactory.lessThan((String)left, map(left, right));
-    else if (node instanceof LessThanOrEqual) return this.predicateFactory.lessThanOrEqual((String)left, map(left, right));
-    else if (node instanceof Like) return this.predicateFactory.like((String)left, map(left, right));
-    else if (node instanceof NotLike) return this.predicateFactory.notLike((String)left, map(left, right));
-    else if (node instanceof In) return this.predicateFactory.in((String)left, mapList(left, right));
-    else if (node instanceof And) return this.predicateFactory.and((T)left, (T)right);
-    else if (node instanceof Or) return this.predicateFactory.or((T)left, (T)right);
+    //Subclasses can extend PredicateBuilder and override the visits for the node types they handle differently.
+    return new PredicateBuilder(values);
+  }
 
-    throw new QueryParseException("Node type not handled: " + node.getClass().getCanonicalName());
+  private Node node(String s)
+  {
+    return this.nodeCache != null ? this.nodeCache.get(s, key -> prepare(Query.parse(key))) : prepare(Query.parse(s));
+  }
+
+  private Node prepare(Node node)
+  {
+    Node optimized = this.optimizer != null ? this.optimizer.optimize(node) : node;
+    return this.planner != null ? this.planner.plan(optimized) : optimized;
   }
 
   private Object map(Object left, Object right)
   {
-    return mapper(left).apply((String)right);
+    return right instanceof String ? mapper(left).apply((String)right) : right;
   }
 
   private List<?> mapList(Object left, Object right)
   {
+    if (right instanceof Collection) return ((Collection<?>)right).stream().map(item -> map(left, item)).collect(toList());
+
     return Stream.of(((String)right).replace(OPEN_LIST, EMPTY).replace(CLOSE_LIST, EMPTY).split(REGX_COMMA))
       .filter(Objects::nonNull)
       .map(item -> map(left, item.trim()))
@@ -104,4 +167,134 @@ public class DefaultQueryParser<T> implements QueryParser<T>
     Function<String, Object> mapper = this.mappers.get(left);
     return mapper != null ? mapper : s -> s;
   }
+
+  protected class PredicateBuilder implements NodeVisitor<T>
+  {
+    protected final PredicateFactory<T> predicateFactory;
+    private final List<?> values;
+
+    protected PredicateBuilder(List<?> values)
+    {
+      this.predicateFactory = DefaultQueryParser.this.predicateFactory;
+      this.values = values;
+    }
+
+    @Override
+    public T visit(And node)
+    {
+      return this.predicateFactory.and(((Node)node.getLeft()).accept(this), ((Node)node.getRight()).accept(this));
+    }
+
+    @Override
+    public T visit(Conjunction node)
+    {
+      return this.predicateFactory.and(predicates(node.getNodes()));
+    }
+
+    @Override
+    public T visit(Constant node)
+    {
+      return this.predicateFactory.constant(node.getValue());
+    }
+
+    @Override
+    public T visit(Disjunction node)
+    {
+      return this.predicateFactory.or(predicates(node.getNodes()));
+    }
+
+    @Override
+    public T visit(Equal node)
+    {
+      return this.predicateFactory.equal(name(node), value(node));
+    }
+
+    @Override
+    public T visit(GreaterThan node)
+    {
+      return this.predicateFactory.greaterThan(name(node), value(node));
+    }
+
+    @Override
+    public T visit(GreaterThanOrEqual node)
+    {
+      return this.predicateFactory.greaterThanOrEqual(name(node), value(node));
+    }
+
+    @Override
+    public T visit(In node)
+    {
+      return this.predicateFactory.in(name(node), mapList(node.getLeft(), bind(node.getRight())));
+    }
+
+    @Override
+    public T visit(LessThan node)
+    {
+      return this.predicateFactory.lessThan(name(node), value(node));
+    }
+
+    @Override
+    public T visit(LessThanOrEqual node)
+    {
+      return this.predicateFactory.lessThanOrEqual(name(node), value(node));
+    }
+
+    @Override
+    public T visit(Like node)
+    {
+      return this.predicateFactory.like(name(node), value(node));
+    }
+
+    @Override
+    public T visit(NotEqual node)
+    {
+      return this.predicateFactory.notEqual(name(node), value(node));
+    }
+
+    @Override
+    public T visit(NotLike node)
+    {
+      return this.predicateFactory.notLike(name(node), value(node));
+    }
+
+    @Override
+    public T visit(Or node)
+    {
+      return this.predicateFactory.or(((Node)node.getLeft()).accept(this), ((Node)node.getRight()).accept(this));
+    }
+
+    @Override
+    public T visit(Parenthesis node)
+    {
+      return this.predicateFactory.parenthesis(node.getNode().accept(this));
+    }
+
+    protected List<T> predicates(List<Node> nodes)
+    {
+      List<T> predicates = new ArrayList<>(nodes.size());
+      for (Node node : nodes) predicates.add(node.accept(this));
+
+      return predicates;
+    }
+
+    protected String name(Node node)
+    {
+      return (String)node.getLeft();
+    }
+
+    protected Object value(Node node)
+    {
+      return map(node.getLeft(), bind(node.getRight()));
+    }
+
+    protected Object bind(Object right)
+    {
+      if (!(right instanceof Placeholder)) return right;
+
+      int index = ((Placeholder)right).getIndex();
+      if (index >= this.values.size()) throw new QueryException("Value missing for placeholder: " + index);
+
+      return this.values.get(index);
+    }
+  }
 }
@@ -0,0 +1,95 @@
+package com.tn.query;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import javax.annotation.Nonnull;
+
+public final class FieldDescriptor extends Named
+{
+  private static final MethodHandle UNREADABLE = MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+
+  private final Field field;
+  private final Mapper mapper;
+
+  //The getter is created the first time it is needed, so describing a class for its names and mappers never makes its fields accessible.
+  private volatile MethodHandle getter;
+
+  FieldDescriptor(@Nonnull Field field, Mapper mapper)
+  {
+    super(field.getName());
+    this.field = field;
+    this.mapper = mapper;
+  }
+
+  public Field field()
+  {
+    return this.field;
+  }
+
+  public Class<?> type()
+  {
+    return this.field.getType();
+  }
+
+  public Mapper mapper()
+  {
+    return this.mapper;
+  }
+
+  public boolean isReadable()
+  {
+    return getter() != UNREADABLE;
+  }
+
+  public Object get(Object target)
+  {
+    MethodHandle getter = getter();
+    if (getter == UNREADABLE) throw new QueryException("Field not readable: " + name());
+
+    try
+    {
+      return getter.invokeExact(target);
+    }
+    catch (RuntimeException | Error e)
+    {
+      throw e;
+    }
+    catch (Throwable e)
+    {
+      throw new QueryException("Failed to get: " + name(), e);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return name() + ": " + type().getCanonicalName();
+  }
+
+  private MethodHandle getter()
+  {
+    //Creating the getter more than once when read concurrently is harmless, each thread creates an equivalent getter.
+    MethodHandle getter = this.getter;
+    if (getter == null) this.getter = getter = getter(this.field);
+
+    return getter;
+  }
+
+  private static MethodHandle getter(Field field)
+  {
+    //Fields that cannot be made accessible, for example in modules that are not open, are described but not readable.
+    if (!field.trySetAccessible()) return UNREADABLE;
+
+    try
+    {
+      return MethodHandles.lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class));
+    }
+    catch (IllegalAccessException e)
+    {
+      return UNREADABLE;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.tn.query;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+public final class FieldRegistry
+{
+  private static final ClassValue<Metadata> METADATA = new ClassValue<>()
+  {
+    @Override
+    protected Metadata computeValue(Class<?> subject)
+    {
+      return metadata(subject);
+    }
+  };
+
+  private FieldRegistry() {}
+
+  public static List<FieldDescriptor> fields(@Nonnull Class<?> subject)
+  {
+    return METADATA.get(subject).fields();
+  }
+
+  public static List<Mapper> mappers(@Nonnull Class<?> subject)
+  {
+    return METADATA.get(subject).mappers();
+  }
+
+  public static void precompute(@Nonnull Class<?>... subjects)
+  {
+    for (Class<?> subject : subjects) METADATA.get(subject);
+  }
+
+  private static Metadata metadata(Class<?> subject)
+  {
+    List<FieldDescriptor> fields = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+
+    //Inherited fields are values of an instance as much as declared ones, but a field declared in a subclass shadows any inherited field with the same name.
+    for (Class<?> type = subject; type != null && type != Object.class; type = type.getSuperclass())
+    {
+      for (Field field : type.getDeclaredFields())
+      {
+        //Static fields are not values of an instance, so are neither queried nor mapped.
+        if (field.isSynthetic() || Modifier.isStatic(field.getModifiers()) || !names.add(field.getName())) continue;
+
+        fields.add(new FieldDescriptor(field, mapper(field)));
+      }
+    }
+
+    return new Metadata(List.copyOf(fields), fields.stream().map(FieldDescriptor::mapper).filter(Objects::nonNull).toList());
+  }
+
+  private static Mapper mapper(Field field)
+  {
+    if (boolean.class.equals(field.getType()) || Boolean.class.equals(field.getType())) return Mapper.toBoolean(field.getName());
+    if (byte.class.equals(field.getType()) || Byte.class.equals(field.getType())) return Mapper.toByte(field.getName());
+    if (char.class.equals(field.getType()) || Character.class.equals(field.getType())) return Mapper.toChar(field.getName());
+    if (double.class.equals(field.getType()) || Double.class.equals(field.getType())) return Mapper.toDouble(field.getName());
+    if (float.class.equals(field.getType()) || Float.class.equals(field.getType())) return Mapper.toFloat(field.getName());
+    if (int.class.equals(field.getType()) || Integer.class.equals(field.getType())) return Mapper.toInt(field.getName());
+    if (long.class.equals(field.getType()) || Long.class.equals(field.getType())) return Mapper.toLong(field.getName());
+    if (short.class.equals(field.getType()) || Short.class.equals(field.getType())) return Mapper.toShort(field.getName());
+
+    if (String.class.equals(field.getType())) return Mapper.toString(field.getName());
+    if (Date.class.equals(field.getType())) return Mapper.toDate(field.getName());
+    if (LocalDate.class.equals(field.getType())) return Mapper.toLocalDate(field.getName());
+    if (LocalDateTime.class.equals(field.getType())) return Mapper.toLocalDateTime(field.getName());
+
+    return null;
+  }
+
+  private record Metadata(List<FieldDescriptor> fields, List<Mapper> mappers) {}
+}
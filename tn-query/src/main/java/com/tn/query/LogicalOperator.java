@@ -0,0 +1,102 @@
+package com.tn.query;
+
+import java.util.List;
+
+import com.tn.query.node.AbstractNodeVisitor;
+import com.tn.query.node.And;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Constant;
+import com.tn.query.node.Disjunction;
+import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
+import com.tn.query.node.Or;
+
+enum LogicalOperator
+{
+  AND,
+  OR;
+
+  private static final int BINARY = 2;
+
+  private static final NodeVisitor<List<Node>> OPERANDS = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public List<Node> visit(Conjunction node)
+    {
+      return node.getNodes();
+    }
+
+    @Override
+    public List<Node> visit(Disjunction node)
+    {
+      return node.getNodes();
+    }
+
+    @Override
+    protected List<Node> visitNode(Node node)
+    {
+      return List.of((Node)node.getLeft(), (Node)node.getRight());
+    }
+  };
+
+  private static final NodeVisitor<LogicalOperator> OPERATORS = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public LogicalOperator visit(And node)
+    {
+      return AND;
+    }
+
+    @Override
+    public LogicalOperator visit(Conjunction node)
+    {
+      return AND;
+    }
+
+    @Override
+    public LogicalOperator visit(Disjunction node)
+    {
+      return OR;
+    }
+
+    @Override
+    public LogicalOperator visit(Or node)
+    {
+      return OR;
+    }
+
+    @Override
+    protected LogicalOperator visitNode(Node node)
+    {
+      return null;
+    }
+  };
+
+  static LogicalOperator of(Node node)
+  {
+    return node.accept(OPERATORS);
+  }
+
+  List<Node> operands(Node node)
+  {
+    return node.accept(OPERANDS);
+  }
+
+  Constant dominant()
+  {
+    return this == AND ? Constant.FALSE : Constant.TRUE;
+  }
+
+  Constant identity()
+  {
+    return this == AND ? Constant.TRUE : Constant.FALSE;
+  }
+
+  Node node(List<Node> nodes)
+  {
+    if (nodes.size() == 1) return nodes.get(0);
+    if (nodes.size() == BINARY) return this == AND ? new And(nodes.get(0), nodes.get(1)) : new Or(nodes.get(0), nodes.get(1));
+
+    return this == AND ? new Conjunction(nodes) : new Disjunction(nodes);
+  }
+}
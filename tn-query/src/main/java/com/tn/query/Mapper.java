@@ -1,36 +1,35 @@
 package com.tn.query;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 public class Mapper extends Named
 {
-  private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-M-d");
-  private static final SimpleDateFormat DATE_TIME_MINUTES_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m");
-  private static final SimpleDateFormat DATE_TIME_SECONDS_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m:s");
-  private static final SimpleDateFormat DATE_TIME_MILLISECONDS_FORMAT = new SimpleDateFormat("yyyy-M-d'T'H:m:s.S");
-  private static final int MAX_DATE_LENGTH = 10;
-
   private static final String QUOTE_SINGLE = "'";
   private static final String QUOTE_DOUBLE = "\"";
-  private static final char TIME_SEPARATOR = ':';
-  private static final char MILLI_SEPARATOR = '.';
-  private static final int TIME_WITH_MINUTES = 1;
 
-  private final String type;
   private final Function<String, Object> map;
+  private final EnumMatch match;
+  private final String type;
 
   private Mapper(String name, String type, Function<String, Object> map)
+  {
+    this(name, type, map, null);
+  }
+
+  private Mapper(String name, String type, Function<String, Object> map, EnumMatch match)
   {
     super(name);
     this.type = type;
     this.map = map;
+    this.match = match;
   }
 
   public Object map(String object)
@@ -69,11 +68,7 @@ public class Mapper extends Named
 
   public static Mapper toDate(@Nonnull String name)
   {
-    return new Mapper(
-      name,
-      Date.class.getCanonicalName(),
-      s -> isPossibleDate(s) ? parseDate(s) : parseDateTime(s)
-    );
+    return new Mapper(name, Date.class.getCanonicalName(), DateParser::parse);
   }
 
   public static Mapper toDouble(@Nonnull String name)
@@ -83,7 +78,13 @@ public class Mapper extends Named
 
   public static Mapper toEnum(@Nonnull String name, Class<? extends Enum<?>> enumType)
   {
-    return new Mapper(name, enumType.getCanonicalName(), s -> parseEnum(enumType, s));
+    return toEnum(name, enumType, EnumMatch.TO_STRING);
+  }
+
+  public static Mapper toEnum(@Nonnull String name, Class<? extends Enum<?>> enumType, @Nonnull EnumMatch match)
+  {
+    Map<String, Enum<?>> constants = match.index(enumType);
+    return new Mapper(name, enumType.getCanonicalName(), s -> parseEnum(enumType, constants, match, s), match);
   }
 
   public static Mapper toFloat(@Nonnull String name)
@@ -128,14 +129,15 @@ public class Mapper extends Named
       other != null &&
       getClass().equals(other.getClass()) &&
       Objects.equals(this.name(), ((Mapper)other).name()) &&
-      Objects.equals(this.type, ((Mapper)other).type)
+      Objects.equals(this.type, ((Mapper)other).type) &&
+      this.match == ((Mapper)other).match
     );
   }
 
   @Override
   public int hashCode()
   {
-    return this.name().hashCode();
+    return Objects.hash(this.name(), this.match);
   }
 
   @Override
@@ -144,65 +146,60 @@ public class Mapper extends Named
     return name() + ": " + this.type;
   }
 
-  private static boolean isPossibleDate(String s)
+  private static Enum<?> parseEnum(Class<? extends Enum<?>> enumType, Map<String, Enum<?>> constants, EnumMatch match, String s)
   {
-    return s.length() <= MAX_DATE_LENGTH;
+    Enum<?> enumValue = s != null ? constants.get(match.key(s)) : null;
+    if (enumValue == null) throw new QueryParseException("Unable to parse enum: " + enumType.getCanonicalName() + ", value: " + s);
+
+    return enumValue;
   }
 
-  private static Date parseDate(String s)
+  private static String parseString(String s)
   {
-    try
-    {
-      return DATE_FORMAT.parse(s);
-    }
-    catch (ParseException e)
-    {
-      throw new QueryParseException("Invalid date: " + s, e);
-    }
+    if (s == null) return null;
+
+    if (s.startsWith(QUOTE_SINGLE)) s = s.substring(QUOTE_SINGLE.length());
+    if (s.endsWith(QUOTE_SINGLE)) s = s.substring(0, s.length() - QUOTE_SINGLE.length());
+
+    if (s.startsWith(QUOTE_DOUBLE)) s = s.substring(QUOTE_DOUBLE.length());
+    if (s.endsWith(QUOTE_DOUBLE)) s = s.substring(0, s.length() - QUOTE_DOUBLE.length());
+
+    return s;
   }
 
-  private static Enum<?> parseEnum(Class<? extends Enum<?>> enumType, String s)
+  public enum EnumMatch
   {
-    for (Enum<?> enumValue : enumType.getEnumConstants())
+    NAME(Enum::name, false),
+    NAME_IGNORE_CASE(Enum::name, true),
+    TO_STRING(Enum::toString, false),
+    TO_STRING_IGNORE_CASE(Enum::toString, true);
+
+    private final boolean ignoreCase;
+    private final Function<Enum<?>, String> key;
+
+    EnumMatch(Function<Enum<?>, String> key, boolean ignoreCase)
     {
-      if (enumValue.toString().equals(s))
-      {
-        return enumValue;
-      }
+      this.key = key;
+      this.ignoreCase = ignoreCase;
     }
 
-    throw new QueryParseException("Unable to parse enum: " + enumType.getCanonicalName() + ", value: " + s);
-  }
-
-  private static Date parseDateTime(String s)
-  {
-    try
+    private Map<String, Enum<?>> index(Class<? extends Enum<?>> enumType)
     {
-      if (s.chars().filter(c -> c == TIME_SEPARATOR).count() == TIME_WITH_MINUTES)
-      {
-        return DATE_TIME_MINUTES_FORMAT.parse(s);
-      }
-      else
+      Map<String, Enum<?>> constants = new HashMap<>();
+      //When several constants have the same key the first declared wins, as it did when the constants were scanned in order.
+      //A constant whose toString returns null can never be matched, so it is left out of the index.
+      for (Enum<?> enumValue : enumType.getEnumConstants())
       {
-        return s.indexOf(MILLI_SEPARATOR) > -1 ? DATE_TIME_MILLISECONDS_FORMAT.parse(s) : DATE_TIME_SECONDS_FORMAT.parse(s);
+        String key = this.key.apply(enumValue);
+        if (key != null) constants.putIfAbsent(key(key), enumValue);
       }
+
+      return Map.copyOf(constants);
     }
-    catch (ParseException e)
+
+    private String key(String s)
     {
-      throw new QueryParseException("Invalid date-time: " + s, e);
+      return this.ignoreCase && s != null ? s.toLowerCase(Locale.ROOT) : s;
     }
   }
-
-  private static String parseString(String s)
-  {
-    if (s == null) return null;
-
-    if (s.startsWith(QUOTE_SINGLE)) s = s.substring(QUOTE_SINGLE.length());
-    if (s.endsWith(QUOTE_SINGLE)) s = s.substring(0, s.length() - QUOTE_SINGLE.length());
-
-    if (s.startsWith(QUOTE_DOUBLE)) s = s.substring(QUOTE_DOUBLE.length());
-    if (s.endsWith(QUOTE_DOUBLE)) s = s.substring(0, s.length() - QUOTE_DOUBLE.length());
-
-    return s;
-  }
 }
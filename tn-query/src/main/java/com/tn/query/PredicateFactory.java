@@ -27,4 +27,31 @@ public interface PredicateFactory<T>
   T or(T left, T right);
 
   T parenthesis(T node);
+
+  default T constant(boolean value)
+  {
+    throw new QueryException("Constant predicates not supported: " + value);
+  }
+
+  default T and(List<T> predicates)
+  {
+    T predicate = predicates.get(0);
+    for (int i = 1; i < predicates.size(); i++) predicate = and(predicate, predicates.get(i));
+
+    return predicate;
+  }
+
+  default T or(List<T> predicates)
+  {
+    T predicate = predicates.get(0);
+    for (int i = 1; i < predicates.size(); i++) predicate = or(predicate, predicates.get(i));
+
+    return predicate;
+  }
+
+  default boolean isReusable()
+  {
+    //Only factories whose predicates are immutable and independent of any query context should return true.
+    return false;
+  }
 }
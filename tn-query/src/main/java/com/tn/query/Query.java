@@ -1,17 +1,21 @@
 package com.tn.query;
 
-import static java.lang.String.join;
-
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
+import com.tn.query.QueryLexer.Token;
+import com.tn.query.QueryLexer.Type;
 import com.tn.query.node.And;
-import com.tn.query.node.LogicalNode;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Disjunction;
 import com.tn.query.node.Node;
 import com.tn.query.node.Or;
 import com.tn.query.node.Parenthesis;
+import com.tn.query.node.Placeholder;
 
 public class Query
 {
@@ -20,117 +24,112 @@ public class Query
   public static final String PARENTHESIS_CLOSE = ")";
   public static final String PARENTHESIS_OPEN = "(";
 
-  private static final String REGEX_SPLIT_AND = "((?<=(&&))|(?=(&&)))";
-  private static final String REGEX_SPLIT_OR = "((?<=(\\|\\|))|(?=(\\|\\|)))";
-  private static final String REGEX_SPLIT_PARENTHESIS_OPEN = "((?<=\\()|(?=\\())";
-  private static final String REGEX_SPLIT_PARENTHESIS_CLOSE = "((?<=\\))|(?=\\)))";
-  private static final String REGEX_LOGICAL_SPLIT = join("|", REGEX_SPLIT_AND, REGEX_SPLIT_OR, REGEX_SPLIT_PARENTHESIS_OPEN, REGEX_SPLIT_PARENTHESIS_CLOSE);
+  private static final int BINARY = 2;
 
   private Query() {}
 
   public static Node parse(@Nonnull String s) throws QueryParseException
   {
-    return parse(new ArrayList<>(List.of(s.split(REGEX_LOGICAL_SPLIT))), () -> new QueryParseException("Illegal query: " + s));
+    return parse(s, value -> value);
   }
 
-  private static boolean isNotEmpty(String s)
+  public static Node parseTemplate(@Nonnull String s) throws QueryParseException
   {
-    return !s.trim().isEmpty();
+    AtomicInteger index = new AtomicInteger();
+    return parse(s, value -> Placeholder.SYMBOL.equals(value) ? new Placeholder(index.getAndIncrement()) : value);
   }
 
-  private static boolean isAnd(String queryPart)
+  private static Node parse(String s, Function<String, Object> values) throws QueryParseException
   {
-    return AND.equals(queryPart.trim());
-  }
+    Supplier<QueryParseException> exceptionSupplier = () -> new QueryParseException("Illegal query: " + s);
+    QueryLexer lexer = new QueryLexer(s);
 
-  private static boolean isOr(String queryPart)
-  {
-    return OR.equals(queryPart.trim());
-  }
+    Node node = parse(lexer, values, exceptionSupplier);
 
-  private static boolean isCloseParenthesis(String queryPart)
-  {
-    return PARENTHESIS_CLOSE.equals(queryPart.trim());
-  }
+    if (lexer.next() != null) throw exceptionSupplier.get();
 
-  private static boolean isOpenParenthesis(String queryPart)
-  {
-    return PARENTHESIS_OPEN.equals(queryPart.trim());
+    return node;
   }
 
-  private static Node parse(List<String> queryParts, Supplier<QueryParseException> exceptionSupplier) throws QueryParseException
+  private static Node parse(QueryLexer lexer, Function<String, Object> values, Supplier<QueryParseException> exceptionSupplier) throws QueryParseException
   {
-    Node node = null;
+    List<Node> operands = new ArrayList<>();
+    Type operator = null;
+    boolean operandExpected = true;
 
-    while (!queryParts.isEmpty())
+    while (lexer.peek() != null && lexer.peek().type() != Type.PARENTHESIS_CLOSE)
     {
-      String queryPart = queryParts.remove(0);
+      Token token = lexer.next();
 
-      if (isNotEmpty(queryPart))
+      if (token.type() == Type.AND || token.type() == Type.OR)
       {
-        if (isOpenParenthesis(queryPart))
-        {
-          node = node(node, new Parenthesis(parse(subQueryParts(queryParts, exceptionSupplier), exceptionSupplier)));
-        }
-        else if (isAnd(queryPart))
-        {
-          if (node == null) throw exceptionSupplier.get();
-          node = new And(node);
-        }
-        else if (isOr(queryPart))
-        {
-          if (node == null) throw exceptionSupplier.get();
-          node = new Or(node);
-        }
-        else
+        if (operandExpected) throw exceptionSupplier.get();
+
+        if (operator != null && operator != token.type())
         {
-          node = node(node, ComparisonOperator.parseNode(queryPart));
+          //Logical operators have equal precedence and are applied left to right, so a change of operator closes the current group.
+          Node group = group(operator, operands);
+          operands.clear();
+          operands.add(group);
         }
+
+        operator = token.type();
+        operandExpected = true;
+      }
+      else
+      {
+        if (!operandExpected) throw exceptionSupplier.get();
+
+        operands.add(operand(token, lexer, values, exceptionSupplier));
+        operandExpected = false;
       }
     }
 
-    if (node == null || node.isNotValid()) throw exceptionSupplier.get();
+    if (operandExpected) throw exceptionSupplier.get();
 
-    return node;
+    return group(operator, operands);
   }
 
-  private static Node node(Node currentNode, Node node)
+  private static Node operand(Token token, QueryLexer lexer, Function<String, Object> values, Supplier<QueryParseException> exceptionSupplier) throws QueryParseException
   {
-    if (currentNode instanceof LogicalNode)
-    {
-      return ((LogicalNode<?>)currentNode).withRight(node);
-    }
-    else
-    {
-      return node;
-    }
+    if (token.type() == Type.PARENTHESIS_OPEN) return new Parenthesis(subQuery(lexer, values, exceptionSupplier));
+    if (token.type() == Type.IDENTIFIER) return comparison(token, lexer, values, exceptionSupplier);
+
+    throw exceptionSupplier.get();
   }
 
-  private static List<String> subQueryParts(List<String> queryParts, Supplier<QueryParseException> exceptionSupplier)
+  private static Node subQuery(QueryLexer lexer, Function<String, Object> values, Supplier<QueryParseException> exceptionSupplier) throws QueryParseException
   {
-    int open = 1;
-    List<String> subQueryParts = new ArrayList<>();
+    Node node = parse(lexer, values, exceptionSupplier);
 
-    while (!queryParts.isEmpty())
-    {
-      String queryPart = queryParts.remove(0);
+    Token token = lexer.next();
+    if (token == null || token.type() != Type.PARENTHESIS_CLOSE) throw exceptionSupplier.get();
 
-      if (isNotEmpty(queryPart))
-      {
-        if (isOpenParenthesis(queryPart))
-        {
-          open++;
-        }
-        else if (isCloseParenthesis(queryPart))
-        {
-          open--;
-          if (open == 0) return subQueryParts;
-        }
+    return node;
+  }
 
-        subQueryParts.add(queryPart);
-      }
-    }
+  private static Node comparison(Token identifier, QueryLexer lexer, Function<String, Object> values, Supplier<QueryParseException> exceptionSupplier) throws QueryParseException
+  {
+    Token operator = lexer.next();
+    if (operator == null || operator.type() != Type.OPERATOR) throw exceptionSupplier.get();
 
-    throw exceptionSupplier.get();
+    Token value = lexer.next();
+    if (value == null || (value.type() != Type.LITERAL && value.type() != Type.LIST)) throw exceptionSupplier.get();
+
+    return operator.comparisonOperator().node(identifier.text(), values.apply(value.text()));
+  }
+
+  private static Node group(Type operator, List<Node> operands)
+  {
+    if (operands.size() == 1) return operands.get(0);
+
+    if (operator == Type.AND)
+    {
+      return operands.size() == BINARY ? new And(operands.get(0), operands.get(1)) : new Conjunction(operands);
+    }
+    else
+    {
+      return operands.size() == BINARY ? new Or(operands.get(0), operands.get(1)) : new Disjunction(operands);
+    }
   }
 }
@@ -0,0 +1,183 @@
+package com.tn.query;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+
+public class QueryCache<V>
+{
+  private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+  private static final int MIN_SEGMENT_WEIGHT = 64;
+  private static final int SINGLE_WEIGHT = 1;
+
+  private final LongAdder evictions;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final long maximumWeight;
+  private final Segment<V>[] segments;
+  private final ToIntFunction<String> weigher;
+
+  public QueryCache(long maximumWeight)
+  {
+    this(maximumWeight, key -> SINGLE_WEIGHT);
+  }
+
+  public QueryCache(long maximumWeight, @Nonnull ToIntFunction<String> weigher)
+  {
+    if (maximumWeight < 1) throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    this.evictions = new LongAdder();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.segments = segments(maximumWeight);
+  }
+
+  public V get(@Nonnull String key, @Nonnull Function<String, V> loader)
+  {
+    Segment<V> segment = segment(key);
+
+    V value = segment.get(key);
+    if (value != null)
+    {
+      this.hits.increment();
+      return value;
+    }
+
+    this.misses.increment();
+
+    //Loading happens outside the segment lock so slow parses never block readers.
+    value = loader.apply(key);
+    if (value != null) this.evictions.add(segment.put(key, value, this.weigher.applyAsInt(key)));
+
+    return value;
+  }
+
+  public long evictions()
+  {
+    return this.evictions.sum();
+  }
+
+  public long hits()
+  {
+    return this.hits.sum();
+  }
+
+  public long maximumWeight()
+  {
+    return this.maximumWeight;
+  }
+
+  public long misses()
+  {
+    return this.misses.sum();
+  }
+
+  public int size()
+  {
+    int size = 0;
+    for (Segment<V> segment : this.segments) size += segment.size();
+
+    return size;
+  }
+
+  public long weight()
+  {
+    long weight = 0;
+    for (Segment<V> segment : this.segments) weight += segment.weight();
+
+    return weight;
+  }
+
+  public void clear()
+  {
+    for (Segment<V> segment : this.segments) segment.clear();
+  }
+
+  @Override
+  public String toString()
+  {
+    return "hits: " + hits() + ", misses: " + misses() + ", evictions: " + evictions() + ", weight: " + weight() + "/" + this.maximumWeight;
+  }
+
+  private Segment<V> segment(String key)
+  {
+    int hash = key.hashCode();
+    return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> Segment<V>[] segments(long maximumWeight)
+  {
+    int count = 1;
+    while (count < DEFAULT_CONCURRENCY_LEVEL && maximumWeight / (count * 2L) >= MIN_SEGMENT_WEIGHT) count *= 2;
+
+    Segment<V>[] segments = new Segment[count];
+    for (int i = 0; i < count; i++) segments[i] = new Segment<>(maximumWeight / count + (i < maximumWeight % count ? 1 : 0));
+
+    return segments;
+  }
+
+  private static class Segment<V>
+  {
+    private final LinkedHashMap<String, Entry<V>> entries;
+    private final long maximumWeight;
+
+    private long weight;
+
+    Segment(long maximumWeight)
+    {
+      this.maximumWeight = maximumWeight;
+      this.entries = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    synchronized V get(String key)
+    {
+      Entry<V> entry = this.entries.get(key);
+      return entry != null ? entry.value() : null;
+    }
+
+    synchronized int put(String key, V value, int weight)
+    {
+      if (weight > this.maximumWeight) return 0;
+
+      Entry<V> previous = this.entries.put(key, new Entry<>(value, weight));
+      this.weight += weight - (previous != null ? previous.weight() : 0);
+
+      int evictions = 0;
+      Iterator<Map.Entry<String, Entry<V>>> iterator = this.entries.entrySet().iterator();
+      while (this.weight > this.maximumWeight && iterator.hasNext())
+      {
+        Entry<V> eldest = iterator.next().getValue();
+        iterator.remove();
+        this.weight -= eldest.weight();
+        evictions++;
+      }
+
+      return evictions;
+    }
+
+    synchronized int size()
+    {
+      return this.entries.size();
+    }
+
+    synchronized long weight()
+    {
+      return this.weight;
+    }
+
+    synchronized void clear()
+    {
+      this.entries.clear();
+      this.weight = 0;
+    }
+  }
+
+  private record Entry<V>(V value, int weight) {}
+}
@@ -0,0 +1,159 @@
+package com.tn.query;
+
+import javax.annotation.Nonnull;
+
+class QueryLexer
+{
+  private static final char AMPERSAND = '&';
+  private static final char LIST_CLOSE = ']';
+  private static final char LIST_OPEN = '[';
+  private static final char PARENTHESIS_CLOSE = ')';
+  private static final char PARENTHESIS_OPEN = '(';
+  private static final char PIPE = '|';
+  private static final char QUOTE_DOUBLE = '"';
+  private static final char QUOTE_SINGLE = '\'';
+
+  private final String s;
+
+  private int index;
+  private Token peeked;
+  private Type previous;
+
+  QueryLexer(@Nonnull String s)
+  {
+    this.s = s;
+    this.index = 0;
+  }
+
+  Token next() throws QueryParseException
+  {
+    Token next = peek();
+    this.peeked = null;
+
+    return next;
+  }
+
+  Token peek() throws QueryParseException
+  {
+    if (this.peeked == null) this.peeked = advance();
+
+    return this.peeked;
+  }
+
+  private Token advance()
+  {
+    skipWhitespace();
+
+    if (this.index >= this.s.length()) return null;
+
+    Token token = token();
+    this.previous = token.type();
+
+    return token;
+  }
+
+  private Token token()
+  {
+    char c = this.s.charAt(this.index);
+
+    if (c == PARENTHESIS_OPEN) return symbol(Type.PARENTHESIS_OPEN, 1);
+    if (c == PARENTHESIS_CLOSE) return symbol(Type.PARENTHESIS_CLOSE, 1);
+    if (isPair(this.index, AMPERSAND)) return symbol(Type.AND, 2);
+    if (isPair(this.index, PIPE)) return symbol(Type.OR, 2);
+
+    if (this.previous == Type.OPERATOR) return c == LIST_OPEN ? list() : literal();
+
+    ComparisonOperator comparisonOperator = ComparisonOperator.at(this.s, this.index);
+    if (comparisonOperator != null) return operator(comparisonOperator);
+
+    return identifier();
+  }
+
+  private Token symbol(Type type, int length)
+  {
+    int start = this.index;
+    this.index += length;
+
+    return new Token(type, this.s.substring(start, this.index), null);
+  }
+
+  private Token operator(ComparisonOperator comparisonOperator)
+  {
+    Token token = new Token(Type.OPERATOR, comparisonOperator.symbol(), comparisonOperator);
+    this.index += comparisonOperator.symbol().length();
+
+    return token;
+  }
+
+  private Token identifier()
+  {
+    int start = this.index;
+    while (this.index < this.s.length() && !isDelimiter(this.index) && ComparisonOperator.at(this.s, this.index) == null) this.index++;
+
+    return new Token(Type.IDENTIFIER, trimmed(start, this.index), null);
+  }
+
+  private Token literal()
+  {
+    int start = this.index;
+
+    char c = this.s.charAt(this.index);
+    if (c == QUOTE_SINGLE || c == QUOTE_DOUBLE) this.index = closing(c, this.index + 1) + 1;
+
+    while (this.index < this.s.length() && !isDelimiter(this.index) && ComparisonOperator.at(this.s, this.index) == null) this.index++;
+
+    return new Token(Type.LITERAL, trimmed(start, this.index), null);
+  }
+
+  private Token list()
+  {
+    int start = this.index;
+    this.index = closing(LIST_CLOSE, this.index + 1) + 1;
+
+    return new Token(Type.LIST, this.s.substring(start, this.index), null);
+  }
+
+  private int closing(char c, int from)
+  {
+    int closing = this.s.indexOf(c, from);
+    if (closing < 0) throw new QueryParseException("Illegal query: " + this.s);
+
+    return closing;
+  }
+
+  private boolean isDelimiter(int i)
+  {
+    char c = this.s.charAt(i);
+    return c == PARENTHESIS_OPEN || c == PARENTHESIS_CLOSE || isPair(i, AMPERSAND) || isPair(i, PIPE);
+  }
+
+  private boolean isPair(int i, char c)
+  {
+    return this.s.charAt(i) == c && i + 1 < this.s.length() && this.s.charAt(i + 1) == c;
+  }
+
+  private void skipWhitespace()
+  {
+    while (this.index < this.s.length() && Character.isWhitespace(this.s.charAt(this.index))) this.index++;
+  }
+
+  private String trimmed(int start, int end)
+  {
+    while (end > start && Character.isWhitespace(this.s.charAt(end - 1))) end--;
+    return this.s.substring(start, end);
+  }
+
+  enum Type
+  {
+    AND,
+    IDENTIFIER,
+    LIST,
+    LITERAL,
+    OPERATOR,
+    OR,
+    PARENTHESIS_CLOSE,
+    PARENTHESIS_OPEN
+  }
+
+  record Token(Type type, String text, ComparisonOperator comparisonOperator) {}
+}
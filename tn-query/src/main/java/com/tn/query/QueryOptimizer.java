@@ -0,0 +1,388 @@
+package com.tn.query;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toMap;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+import com.tn.query.node.AbstractNodeVisitor;
+import com.tn.query.node.Constant;
+import com.tn.query.node.Equal;
+import com.tn.query.node.In;
+import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
+import com.tn.query.node.Parenthesis;
+
+public class QueryOptimizer
+{
+  private static final int BINARY = 2;
+
+  private static final NodeVisitor<Node> INNER = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public Node visit(Parenthesis node)
+    {
+      return node.getNode();
+    }
+
+    @Override
+    protected Node visitNode(Node node)
+    {
+      return null;
+    }
+  };
+
+  private final Map<Object, Function<String, Object>> mappers;
+  private final NodeVisitor<Node> rewriter;
+
+  public QueryOptimizer()
+  {
+    this(emptyList());
+  }
+
+  public QueryOptimizer(@Nonnull Collection<Mapper> mappers)
+  {
+    this(mappers.stream().collect(toMap(Mapper::name, mapper -> mapper::map)));
+  }
+
+  QueryOptimizer(Map<Object, Function<String, Object>> mappers)
+  {
+    this.mappers = mappers;
+    this.rewriter = new Rewriter();
+  }
+
+  public Node optimize(@Nonnull Node node)
+  {
+    Node optimized = node.accept(this.rewriter);
+    Node inner = inner(optimized);
+
+    return inner != null ? inner : optimized;
+  }
+
+  private Node rewrite(LogicalOperator operator, Node node)
+  {
+    List<Node> operands = new ArrayList<>();
+    for (Node operand : operator.operands(node))
+    {
+      Node rewritten = unwrap(operand.accept(this.rewriter), operator);
+      if (LogicalOperator.of(rewritten) == operator) operands.addAll(operator.operands(rewritten));
+      else operands.add(rewritten);
+    }
+
+    if (operands.contains(operator.dominant())) return operator.dominant();
+
+    //Any constant left is the identity, which has no effect on the result.
+    operands.removeIf(operator.identity()::equals);
+    if (operands.isEmpty()) return operator.identity();
+
+    List<Node> optimized = mergeRanges(operator, new ArrayList<>(new LinkedHashSet<>(operands)));
+    if (operator == LogicalOperator.AND && isUnsatisfiable(optimized)) return Constant.FALSE;
+    if (operator == LogicalOperator.OR) optimized = foldEquals(optimized);
+
+    return operator.node(optimized);
+  }
+
+  private Node unwrap(Node node, LogicalOperator operator)
+  {
+    //Parenthesis around a group with the same operator can be removed because && and || are associative.
+    Node inner = inner(node);
+    return inner != null && LogicalOperator.of(inner) == operator ? inner : node;
+  }
+
+  private List<Node> mergeRanges(LogicalOperator operator, List<Node> nodes)
+  {
+    Map<RangeKey, Range> ranges = new HashMap<>();
+    Set<RangeKey> unmergeable = new HashSet<>();
+
+    for (Node node : nodes)
+    {
+      Range range = range(node);
+      if (range == null) continue;
+
+      Range current = ranges.get(range.key());
+      if (current == null)
+      {
+        ranges.put(range.key(), range);
+        continue;
+      }
+
+      try
+      {
+        ranges.put(range.key(), operator == LogicalOperator.AND ? current.tightest(range) : current.loosest(range));
+      }
+      catch (ClassCastException e)
+      {
+        unmergeable.add(range.key());
+      }
+    }
+
+    List<Node> merged = new ArrayList<>(nodes.size());
+    Set<RangeKey> emitted = new HashSet<>();
+
+    for (Node node : nodes)
+    {
+      Range range = range(node);
+
+      if (range == null || unmergeable.contains(range.key())) merged.add(node);
+      else if (emitted.add(range.key())) merged.add(ranges.get(range.key()).node());
+    }
+
+    return merged;
+  }
+
+  private boolean isUnsatisfiable(List<Node> nodes)
+  {
+    Map<String, Constraints> constraints = new HashMap<>();
+
+    for (Node node : nodes)
+    {
+      Object value = value(node);
+      if (value != null) constraints.computeIfAbsent((String)node.getLeft(), left -> new Constraints()).add(node, value);
+    }
+
+    for (Constraints fieldConstraints : constraints.values())
+    {
+      try
+      {
+        if (fieldConstraints.isUnsatisfiable()) return true;
+      }
+      catch (ClassCastException e)
+      {
+        //Values of different types prove nothing.
+      }
+    }
+
+    return false;
+  }
+
+  private List<Node> foldEquals(List<Node> nodes)
+  {
+    Map<String, Set<Object>> values = new LinkedHashMap<>();
+
+    for (Node node : nodes)
+    {
+      if (isFoldable(node)) values.computeIfAbsent((String)node.getLeft(), left -> new LinkedHashSet<>()).addAll(foldableValues(node));
+    }
+
+    List<Node> folded = new ArrayList<>(nodes.size());
+    Set<String> emitted = new HashSet<>();
+
+    for (Node node : nodes)
+    {
+      if (!isFoldable(node) || values.get((String)node.getLeft()).size() < BINARY && ComparisonOperator.of(node) != ComparisonOperator.IN)
+      {
+        folded.add(node);
+      }
+      else if (emitted.add((String)node.getLeft()))
+      {
+        Set<Object> fieldValues = values.get((String)node.getLeft());
+        folded.add(fieldValues.size() == 1 ? new Equal(node.getLeft(), fieldValues.iterator().next()) : new In(node.getLeft(), List.copyOf(fieldValues)));
+      }
+    }
+
+    return folded;
+  }
+
+  private boolean isFoldable(Node node)
+  {
+    ComparisonOperator operator = ComparisonOperator.of(node);
+
+    return node.getLeft() instanceof String && (
+      (operator == ComparisonOperator.EQUAL && node.getRight() instanceof String) ||
+      (operator == ComparisonOperator.IN && node.getRight() instanceof List)
+    );
+  }
+
+  private Collection<?> foldableValues(Node node)
+  {
+    return ComparisonOperator.of(node) == ComparisonOperator.IN ? (List<?>)node.getRight() : List.of(node.getRight());
+  }
+
+  private Range range(Node node)
+  {
+    boolean lower = isLower(node);
+    if (!lower && !isUpper(node)) return null;
+
+    Object value = value(node);
+    if (value == null) return null;
+
+    return new Range(node, new RangeKey((String)node.getLeft(), lower), isExclusive(node), value);
+  }
+
+  private Object value(Node node)
+  {
+    if (!(node.getLeft() instanceof String) || !(node.getRight() instanceof String)) return null;
+
+    Function<String, Object> mapper = this.mappers.get(node.getLeft());
+    //Without a mapper the backend decides how to compare the raw string, so nothing can be proven.
+    if (mapper == null) return null;
+
+    try
+    {
+      Object value = mapper.apply((String)node.getRight());
+      return isOrdered(value) ? value : null;
+    }
+    catch (RuntimeException e)
+    {
+      return null;
+    }
+  }
+
+  private static boolean isOrdered(Object value)
+  {
+    //Strings, characters and enums are excluded because collations and enum storage differ between backends.
+    return value instanceof Comparable && (value instanceof Boolean || value instanceof Date || value instanceof Number || value instanceof Temporal);
+  }
+
+  private static Node inner(Node node)
+  {
+    return node.accept(INNER);
+  }
+
+  private static boolean isLower(Node node)
+  {
+    ComparisonOperator operator = ComparisonOperator.of(node);
+    return operator == ComparisonOperator.GREATER_THAN || operator == ComparisonOperator.GREATER_THAN_OR_EQUAL;
+  }
+
+  private static boolean isUpper(Node node)
+  {
+    ComparisonOperator operator = ComparisonOperator.of(node);
+    return operator == ComparisonOperator.LESS_THAN || operator == ComparisonOperator.LESS_THAN_OR_EQUAL;
+  }
+
+  private static boolean isExclusive(Node node)
+  {
+    ComparisonOperator operator = ComparisonOperator.of(node);
+    return operator == ComparisonOperator.GREATER_THAN || operator == ComparisonOperator.LESS_THAN;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object left, Object right)
+  {
+    return ((Comparable<Object>)left).compareTo(right);
+  }
+
+  private record RangeKey(String name, boolean lower) {}
+
+  private record Range(Node node, RangeKey key, boolean exclusive, Object value)
+  {
+    Range tightest(Range other)
+    {
+      int comparison = compare(other);
+      if (comparison == 0) return this.exclusive ? this : other;
+
+      return (comparison > 0) == this.key.lower() ? this : other;
+    }
+
+    Range loosest(Range other)
+    {
+      int comparison = compare(other);
+      if (comparison == 0) return this.exclusive ? other : this;
+
+      return (comparison < 0) == this.key.lower() ? this : other;
+    }
+
+    private int compare(Range other)
+    {
+      return QueryOptimizer.compare(this.value, other.value);
+    }
+  }
+
+  private static class Constraints
+  {
+    private final List<Object> equal = new ArrayList<>();
+    private final List<Object> notEqual = new ArrayList<>();
+
+    private Object lower;
+    private boolean lowerExclusive;
+    private Object upper;
+    private boolean upperExclusive;
+
+    void add(Node node, Object value)
+    {
+      ComparisonOperator operator = ComparisonOperator.of(node);
+
+      if (operator == ComparisonOperator.EQUAL)
+      {
+        this.equal.add(value);
+      }
+      else if (operator == ComparisonOperator.NOT_EQUAL)
+      {
+        this.notEqual.add(value);
+      }
+      else if (isLower(node))
+      {
+        this.lower = value;
+        this.lowerExclusive = isExclusive(node);
+      }
+      else if (isUpper(node))
+      {
+        this.upper = value;
+        this.upperExclusive = isExclusive(node);
+      }
+    }
+
+    boolean isUnsatisfiable()
+    {
+      for (Object value : this.equal)
+      {
+        if (compare(value, this.equal.get(0)) != 0 || isOutOfBounds(value)) return true;
+        for (Object excluded : this.notEqual) if (compare(value, excluded) == 0) return true;
+      }
+
+      if (this.lower == null || this.upper == null) return false;
+
+      int comparison = compare(this.lower, this.upper);
+      return comparison > 0 || (comparison == 0 && (this.lowerExclusive || this.upperExclusive));
+    }
+
+    private boolean isOutOfBounds(Object value)
+    {
+      if (this.lower != null)
+      {
+        int comparison = compare(value, this.lower);
+        if (comparison < 0 || (comparison == 0 && this.lowerExclusive)) return true;
+      }
+
+      if (this.upper != null)
+      {
+        int comparison = compare(value, this.upper);
+        if (comparison > 0 || (comparison == 0 && this.upperExclusive)) return true;
+      }
+
+      return false;
+    }
+  }
+
+  private class Rewriter extends AbstractNodeVisitor<Node>
+  {
+    @Override
+    public Node visit(Parenthesis node)
+    {
+      Node inner = node.getNode().accept(this);
+
+      //Parenthesis are only needed around a group of operands.
+      return LogicalOperator.of(inner) == null ? inner : new Parenthesis(inner);
+    }
+
+    @Override
+    protected Node visitNode(Node node)
+    {
+      LogicalOperator operator = LogicalOperator.of(node);
+      return operator != null ? rewrite(operator, node) : node;
+    }
+  }
+}
@@ -0,0 +1,341 @@
+package com.tn.query;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import com.tn.query.node.AbstractNodeVisitor;
+import com.tn.query.node.Constant;
+import com.tn.query.node.Equal;
+import com.tn.query.node.GreaterThan;
+import com.tn.query.node.GreaterThanOrEqual;
+import com.tn.query.node.In;
+import com.tn.query.node.LessThan;
+import com.tn.query.node.LessThanOrEqual;
+import com.tn.query.node.Like;
+import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
+import com.tn.query.node.NotEqual;
+import com.tn.query.node.NotLike;
+import com.tn.query.node.Parenthesis;
+
+public class QueryPlanner
+{
+  private static final String CLOSE_LIST = "]";
+  private static final char COMMA = ',';
+  private static final double COST_COMPARISON = 1;
+  private static final double COST_LIKE = 20;
+  private static final int DEFAULT_LIST_SIZE = 3;
+  private static final double EPSILON = 1e-9;
+  private static final String INDENT = "  ";
+  private static final String NEW_LINE = "\n";
+  private static final String OPEN_LIST = "[";
+  private static final double SELECTIVITY_EQUAL = 0.1;
+  private static final double SELECTIVITY_LIKE = 0.25;
+  private static final double SELECTIVITY_RANGE = 1.0 / 3;
+  private static final double SELECTIVITY_UNKNOWN = 0.5;
+  private static final String TEMPLATE_EXPLAIN = "%s (cost: %.2f, selectivity: %.3f)";
+
+  //Comparing a null, or a value of another type, with a range or pattern can throw, so these decide whether an operand can throw.
+  private static final NodeVisitor<Boolean> CAN_THROW = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public Boolean visit(GreaterThan node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(GreaterThanOrEqual node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(LessThan node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(LessThanOrEqual node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(Like node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(NotLike node)
+    {
+      return true;
+    }
+
+    @Override
+    public Boolean visit(Parenthesis node)
+    {
+      return node.getNode().accept(this);
+    }
+
+    @Override
+    protected Boolean visitNode(Node node)
+    {
+      LogicalOperator operator = LogicalOperator.of(node);
+      return operator != null && operator.operands(node).stream().anyMatch(operand -> operand.accept(this));
+    }
+  };
+  private static final NodeVisitor<Double> COST = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public Double visit(Constant node)
+    {
+      return 0.0;
+    }
+
+    @Override
+    public Double visit(In node)
+    {
+      return COST_COMPARISON * listSize(node.getRight());
+    }
+
+    @Override
+    public Double visit(Like node)
+    {
+      return COST_LIKE;
+    }
+
+    @Override
+    public Double visit(NotLike node)
+    {
+      return COST_LIKE;
+    }
+
+    @Override
+    protected Double visitNode(Node node)
+    {
+      return COST_COMPARISON;
+    }
+  };
+
+  private final Map<String, Long> distinctValues;
+  private final NodeVisitor<Double> selectivity;
+
+  public QueryPlanner()
+  {
+    this.distinctValues = new HashMap<>();
+    this.selectivity = new Selectivity();
+  }
+
+  public QueryPlanner withDistinctValues(@Nonnull String name, long distinctValues)
+  {
+    if (distinctValues < 1) throw new IllegalArgumentException("Distinct values must be positive: " + distinctValues);
+
+    this.distinctValues.put(name, distinctValues);
+    return this;
+  }
+
+  public Node plan(@Nonnull Node node)
+  {
+    return node.accept(new Estimator(true)).node();
+  }
+
+  public String explain(@Nonnull Node node)
+  {
+    StringBuilder explanation = new StringBuilder();
+    //The node is explained in the order given; call plan first to see the order the planner would choose.
+    explain(node.accept(new Estimator(false)), 0, explanation);
+
+    return explanation.toString();
+  }
+
+  private List<Estimate> order(LogicalOperator operator, List<Estimate> operands)
+  {
+    int size = operands.size();
+    double[] ranks = new double[size];
+    boolean[] canThrow = new boolean[size];
+    List<Integer> safe = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++)
+    {
+      ranks[i] = rank(operator, operands.get(i));
+      canThrow[i] = operands.get(i).node().accept(CAN_THROW);
+      if (!canThrow[i]) safe.add(i);
+    }
+
+    //The sort is stable, so operands with the same rank keep the order they were written in.
+    safe.sort(Comparator.comparingDouble(i -> ranks[i]));
+
+    //An operand that can throw never runs before an operand written before it, so guards such as x != null && x > 5 still protect it, but it can still run later.
+    List<Estimate> ordered = new ArrayList<>(size);
+    boolean[] placed = new boolean[size];
+    int first = 0;
+    int next = 0;
+
+    while (ordered.size() < size)
+    {
+      while (placed[first]) first++;
+
+      int chosen = canThrow[first] && (next == safe.size() || ranks[first] <= ranks[safe.get(next)]) ? first : safe.get(next++);
+      placed[chosen] = true;
+      ordered.add(operands.get(chosen));
+    }
+
+    return ordered;
+  }
+
+  private double rank(LogicalOperator operator, Estimate estimate)
+  {
+    //An AND stops at the first false operand and an OR at the first true one, so cheap operands likely to stop evaluation go first.
+    double stops = operator == LogicalOperator.AND ? 1 - estimate.selectivity() : estimate.selectivity();
+    return estimate.cost() / Math.max(stops, EPSILON);
+  }
+
+  private double equalSelectivity(Node node)
+  {
+    Long distinctValues = this.distinctValues.get(node.getLeft());
+    return distinctValues != null ? 1.0 / distinctValues : SELECTIVITY_EQUAL;
+  }
+
+  private static int listSize(Object right)
+  {
+    if (right instanceof List) return Math.max(1, ((List<?>)right).size());
+
+    if (right instanceof String && ((String)right).startsWith(OPEN_LIST) && ((String)right).endsWith(CLOSE_LIST))
+    {
+      return 1 + (int)((String)right).chars().filter(c -> c == COMMA).count();
+    }
+
+    return DEFAULT_LIST_SIZE;
+  }
+
+  private void explain(Estimate estimate, int depth, StringBuilder explanation)
+  {
+    if (depth > 0) explanation.append(NEW_LINE);
+
+    explanation.append(INDENT.repeat(depth)).append(format(Locale.ROOT, TEMPLATE_EXPLAIN, estimate.label(), estimate.cost(), estimate.selectivity()));
+    for (Estimate operand : estimate.operands()) explain(operand, depth + 1, explanation);
+  }
+
+  private record Estimate(Node node, String label, double cost, double selectivity, List<Estimate> operands) {}
+
+  private class Estimator extends AbstractNodeVisitor<Estimate>
+  {
+    private final boolean reorder;
+
+    Estimator(boolean reorder)
+    {
+      this.reorder = reorder;
+    }
+
+    @Override
+    public Estimate visit(Parenthesis node)
+    {
+      Estimate inner = node.getNode().accept(this);
+      return new Estimate(new Parenthesis(inner.node()), inner.label(), inner.cost(), inner.selectivity(), inner.operands());
+    }
+
+    @Override
+    protected Estimate visitNode(Node node)
+    {
+      LogicalOperator operator = LogicalOperator.of(node);
+      if (operator == null) return new Estimate(node, node.toString(), node.accept(COST), node.accept(selectivity), List.of());
+
+      List<Estimate> operands = new ArrayList<>();
+      for (Node operand : operator.operands(node)) operands.add(operand.accept(this));
+
+      if (this.reorder) operands = order(operator, operands);
+
+      double cost = 0;
+      double reached = 1;
+      for (Estimate operand : operands)
+      {
+        cost += reached * operand.cost();
+        reached *= operator == LogicalOperator.AND ? operand.selectivity() : 1 - operand.selectivity();
+      }
+
+      List<Node> nodes = new ArrayList<>(operands.size());
+      for (Estimate operand : operands) nodes.add(operand.node());
+
+      return new Estimate(operator.node(nodes), operator.name(), cost, operator == LogicalOperator.AND ? reached : 1 - reached, operands);
+    }
+  }
+
+  private class Selectivity extends AbstractNodeVisitor<Double>
+  {
+    @Override
+    public Double visit(Constant node)
+    {
+      return node.getValue() ? 1.0 : 0.0;
+    }
+
+    @Override
+    public Double visit(Equal node)
+    {
+      return equalSelectivity(node);
+    }
+
+    @Override
+    public Double visit(GreaterThan node)
+    {
+      return SELECTIVITY_RANGE;
+    }
+
+    @Override
+    public Double visit(GreaterThanOrEqual node)
+    {
+      return SELECTIVITY_RANGE;
+    }
+
+    @Override
+    public Double visit(In node)
+    {
+      return Math.min(1, equalSelectivity(node) * listSize(node.getRight()));
+    }
+
+    @Override
+    public Double visit(LessThan node)
+    {
+      return SELECTIVITY_RANGE;
+    }
+
+    @Override
+    public Double visit(LessThanOrEqual node)
+    {
+      return SELECTIVITY_RANGE;
+    }
+
+    @Override
+    public Double visit(Like node)
+    {
+      return SELECTIVITY_LIKE;
+    }
+
+    @Override
+    public Double visit(NotEqual node)
+    {
+      return 1 - equalSelectivity(node);
+    }
+
+    @Override
+    public Double visit(NotLike node)
+    {
+      return 1 - SELECTIVITY_LIKE;
+    }
+
+    @Override
+    protected Double visitNode(Node node)
+    {
+      return SELECTIVITY_UNKNOWN;
+    }
+  }
+}
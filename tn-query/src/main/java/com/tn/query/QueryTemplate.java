@@ -0,0 +1,94 @@
+package com.tn.query;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import com.tn.query.node.AbstractNodeVisitor;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Disjunction;
+import com.tn.query.node.Node;
+import com.tn.query.node.NodeVisitor;
+import com.tn.query.node.Parenthesis;
+import com.tn.query.node.Placeholder;
+
+public class QueryTemplate<T>
+{
+  private static final NodeVisitor<Integer> PLACEHOLDERS = new AbstractNodeVisitor<>()
+  {
+    @Override
+    public Integer visit(Conjunction node)
+    {
+      return node.getNodes().stream().mapToInt(QueryTemplate::placeholders).sum();
+    }
+
+    @Override
+    public Integer visit(Disjunction node)
+    {
+      return node.getNodes().stream().mapToInt(QueryTemplate::placeholders).sum();
+    }
+
+    @Override
+    public Integer visit(Parenthesis node)
+    {
+      return placeholders(node.getNode());
+    }
+
+    @Override
+    protected Integer visitNode(Node node)
+    {
+      return placeholders(node.getLeft()) + placeholders(node.getRight());
+    }
+  };
+
+  private final Node node;
+  private final int placeholders;
+  private final DefaultQueryParser<T> queryParser;
+
+  QueryTemplate(@Nonnull DefaultQueryParser<T> queryParser, @Nonnull Node node, int placeholders)
+  {
+    this.queryParser = queryParser;
+    this.node = node;
+    this.placeholders = placeholders;
+  }
+
+  public T bind(Object... values) throws QueryException
+  {
+    return bind(Arrays.asList(values));
+  }
+
+  public T bind(@Nonnull List<?> values) throws QueryException
+  {
+    if (values.size() != this.placeholders) throw new QueryException("Expected " + this.placeholders + " values, received: " + values.size());
+
+    return this.queryParser.predicate(this.node, values);
+  }
+
+  public Node getNode()
+  {
+    return this.node;
+  }
+
+  public int getPlaceholders()
+  {
+    return this.placeholders;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.node.toString();
+  }
+
+  static int placeholders(Node node)
+  {
+    return node.accept(PLACEHOLDERS);
+  }
+
+  private static int placeholders(Object value)
+  {
+    if (value instanceof Node) return placeholders((Node)value);
+
+    return value instanceof Placeholder ? 1 : 0;
+  }
+}
@@ -3,16 +3,11 @@ package com.tn.query;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 public class ValueMappers
 {
@@ -35,36 +30,21 @@ public class ValueMappers
 
   public static List<Mapper> forFields(Class<?> subject, Collection<String> ignored, Map<String, Function<String, Mapper>> overrides)
   {
-    return Stream.of(subject.getDeclaredFields())
-      .filter(field -> !ignored.contains(field.getName()) && !field.isSynthetic())
+    if (ignored.isEmpty() && overrides.isEmpty()) return FieldRegistry.mappers(subject);
+
+    return FieldRegistry.fields(subject).stream()
+      .filter(field -> !ignored.contains(field.name()))
       .map(toMapper(overrides))
       .filter(Objects::nonNull)
       .toList();
   }
 
-  private static Function<Field, Mapper> toMapper(Map<String, Function<String, Mapper>> overrides)
+  private static Function<FieldDescriptor, Mapper> toMapper(Map<String, Function<String, Mapper>> overrides)
   {
     return field ->
     {
-      Function<String, Mapper> mapperFactory = overrides.get(field.getName());
-
-      if (mapperFactory != null) return mapperFactory.apply(field.getName());
-
-      if (boolean.class.equals(field.getType()) || Boolean.class.equals(field.getType())) return Mapper.toBoolean(field.getName());
-      if (byte.class.equals(field.getType()) || Byte.class.equals(field.getType())) return Mapper.toByte(field.getName());
-      if (char.class.equals(field.getType()) || Character.class.equals(field.getType())) return Mapper.toChar(field.getName());
-      if (double.class.equals(field.getType()) || Double.class.equals(field.getType())) return Mapper.toDouble(field.getName());
-      if (float.class.equals(field.getType()) || Float.class.equals(field.getType())) return Mapper.toFloat(field.getName());
-      if (int.class.equals(field.getType()) || Integer.class.equals(field.getType())) return Mapper.toInt(field.getName());
-      if (long.class.equals(field.getType()) || Long.class.equals(field.getType())) return Mapper.toLong(field.getName());
-      if (short.class.equals(field.getType()) || Short.class.equals(field.getType())) return Mapper.toShort(field.getName());
-
-      if (String.class.equals(field.getType())) return Mapper.toString(field.getName());
-      if (Date.class.equals(field.getType())) return Mapper.toDate(field.getName());
-      if (LocalDate.class.equals(field.getType())) return Mapper.toLocalDate(field.getName());
-      if (LocalDateTime.class.equals(field.getType())) return Mapper.toLocalDateTime(field.getName());
-
-      return null;
+      Function<String, Mapper> mapperFactory = overrides.get(field.name());
+      return mapperFactory != null ? mapperFactory.apply(field.name()) : field.mapper();
     };
   }
 }
@@ -0,0 +1,97 @@
+package com.tn.query.node;
+
+public abstract class AbstractNodeVisitor<R> implements NodeVisitor<R>
+{
+  @Override
+  public R visit(And node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Conjunction node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Constant node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Disjunction node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Equal node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(GreaterThan node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(GreaterThanOrEqual node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(In node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(LessThan node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(LessThanOrEqual node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Like node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(NotEqual node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(NotLike node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Or node)
+  {
+    return visitNode(node);
+  }
+
+  @Override
+  public R visit(Parenthesis node)
+  {
+    return visitNode(node);
+  }
+
+  //Every visit falls back to this, so a visitor only overrides the visits for the node types it handles differently.
+  protected abstract R visitNode(Node node);
+}
@@ -22,6 +22,12 @@ public class And extends LogicalNode<And>
     return new And(getLeft(), right);
   }
 
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
   @Override
   public String toString()
   {
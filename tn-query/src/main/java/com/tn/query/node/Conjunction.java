@@ -0,0 +1,31 @@
+package com.tn.query.node;
+
+import java.util.List;
+
+public class Conjunction extends NaryLogicalNode
+{
+  private static final String DELIMITER = " && ";
+
+  public Conjunction(List<? extends Node> nodes)
+  {
+    super(nodes);
+  }
+
+  @Override
+  public Conjunction withNodes(List<? extends Node> nodes)
+  {
+    return new Conjunction(nodes);
+  }
+
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
+  @Override
+  public String toString()
+  {
+    return toString(DELIMITER);
+  }
+}
@@ -0,0 +1,54 @@
+package com.tn.query.node;
+
+public enum Constant implements Node
+{
+  FALSE(false),
+  TRUE(true);
+
+  private final boolean value;
+
+  Constant(boolean value)
+  {
+    this.value = value;
+  }
+
+  public static Constant of(boolean value)
+  {
+    return value ? TRUE : FALSE;
+  }
+
+  public boolean getValue()
+  {
+    return this.value;
+  }
+
+  @Override
+  public Object getLeft()
+  {
+    return null;
+  }
+
+  @Override
+  public Object getRight()
+  {
+    return null;
+  }
+
+  @Override
+  public boolean isValid()
+  {
+    return true;
+  }
+
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.valueOf(this.value);
+  }
+}
@@ -11,6 +11,12 @@ public class Equal extends ComparisonNode
     super(left, right);
   }
 
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
   @Override
   public String toString()
   {
@@ -0,0 +1,71 @@
+package com.tn.query.node;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.List;
+import java.util.Objects;
+
+public abstract class NaryLogicalNode implements Node
+{
+  private static final int MIN_NODES = 2;
+
+  private final List<Node> nodes;
+
+  public NaryLogicalNode(List<? extends Node> nodes)
+  {
+    if (nodes.size() < MIN_NODES) throw new IllegalArgumentException("At least " + MIN_NODES + " nodes required, received: " + nodes.size());
+
+    this.nodes = List.copyOf(nodes);
+  }
+
+  public List<Node> getNodes()
+  {
+    return this.nodes;
+  }
+
+  @Override
+  public Object getLeft()
+  {
+    return this.nodes.get(0);
+  }
+
+  @Override
+  public Object getRight()
+  {
+    return this.nodes.size() == MIN_NODES ? this.nodes.get(1) : withNodes(this.nodes.subList(1, this.nodes.size()));
+  }
+
+  @Override
+  public boolean isValid()
+  {
+    for (Node node : this.nodes)
+    {
+      if (node.isNotValid()) return false;
+    }
+
+    return true;
+  }
+
+  public abstract NaryLogicalNode withNodes(List<? extends Node> nodes);
+
+  @Override
+  public boolean equals(Object other)
+  {
+    return this == other || (
+      other != null &&
+      getClass().equals(other.getClass()) &&
+      Objects.equals(this.nodes, ((NaryLogicalNode)other).nodes)
+    );
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return this.nodes.hashCode();
+  }
+
+  protected String toString(String delimiter)
+  {
+    return this.nodes.stream().map(Object::toString).collect(joining(delimiter));
+  }
+}
@@ -8,6 +8,8 @@ public interface Node
 
   boolean isValid();
 
+  <R> R accept(NodeVisitor<R> visitor);
+
   default boolean isNotValid()
   {
     return !this.isValid();
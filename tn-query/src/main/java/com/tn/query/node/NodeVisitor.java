@@ -0,0 +1,34 @@
+package com.tn.query.node;
+
+public interface NodeVisitor<R>
+{
+  R visit(And node);
+
+  R visit(Conjunction node);
+
+  R visit(Constant node);
+
+  R visit(Disjunction node);
+
+  R visit(Equal node);
+
+  R visit(GreaterThan node);
+
+  R visit(GreaterThanOrEqual node);
+
+  R visit(In node);
+
+  R visit(LessThan node);
+
+  R visit(LessThanOrEqual node);
+
+  R visit(Like node);
+
+  R visit(NotEqual node);
+
+  R visit(NotLike node);
+
+  R visit(Or node);
+
+  R visit(Parenthesis node);
+}
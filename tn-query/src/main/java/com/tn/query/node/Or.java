@@ -22,6 +22,12 @@ public class Or extends LogicalNode<Or>
     return new Or(getLeft(), right);
   }
 
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
   @Override
   public String toString()
   {
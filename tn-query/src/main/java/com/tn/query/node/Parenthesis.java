@@ -54,6 +54,12 @@ public class Parenthesis implements Node
     return this.node.hashCode();
   }
 
+  @Override
+  public <R> R accept(NodeVisitor<R> visitor)
+  {
+    return visitor.visit(this);
+  }
+
   @Override
   public String toString()
   {
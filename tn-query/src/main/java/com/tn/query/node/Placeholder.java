@@ -0,0 +1,40 @@
+package com.tn.query.node;
+
+public class Placeholder
+{
+  public static final String SYMBOL = "?";
+
+  private final int index;
+
+  public Placeholder(int index)
+  {
+    this.index = index;
+  }
+
+  public int getIndex()
+  {
+    return this.index;
+  }
+
+  @Override
+  public boolean equals(Object other)
+  {
+    return this == other || (
+      other != null &&
+      getClass().equals(other.getClass()) &&
+      this.index == ((Placeholder)other).index
+    );
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return this.index;
+  }
+
+  @Override
+  public String toString()
+  {
+    return SYMBOL;
+  }
+}
@@ -2,6 +2,7 @@ package com.tn.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static com.tn.query.ComparisonOperator.EQUAL;
@@ -112,6 +113,24 @@ class ComparisonOperatorTest
     assertParse(new In("left", "right"), query);
   }
 
+  @Test
+  void shouldParseWithoutWhitespace()
+  {
+    assertParse(new GreaterThanOrEqual("left", "right"), "left>=right");
+    assertParse(new NotLike("left", "right*"), "left!≈right*");
+    assertParse(new Equal("left", "right!"), "left=right!");
+  }
+
+  @Test
+  void shouldThrowWhenParsingInvalid()
+  {
+    assertThrows(QueryParseException.class, () -> ComparisonOperator.parseNode("left right"));
+    assertThrows(QueryParseException.class, () -> ComparisonOperator.parseNode("left = right = other"));
+    assertThrows(QueryParseException.class, () -> ComparisonOperator.parseNode(" = right"));
+    assertThrows(QueryParseException.class, () -> ComparisonOperator.parseNode("left = "));
+    assertThrows(IllegalArgumentException.class, () -> EQUAL.parse("left != right"));
+  }
+
   private void assertMatches(ComparisonOperator expectedComparisonOperator, String queryPart)
   {
     assertTrue(expectedComparisonOperator.matches(queryPart));
@@ -0,0 +1,100 @@
+package com.tn.query;
+
+import static java.util.Calendar.APRIL;
+import static java.util.Calendar.MILLISECOND;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class DateParserTest
+{
+  @Test
+  void shouldParseDate()
+  {
+    assertEquals(new GregorianCalendar(2022, APRIL, 24).getTime(), DateParser.parse("2022-04-24"));
+    assertEquals(new GregorianCalendar(2022, APRIL, 4).getTime(), DateParser.parse("2022-4-4"));
+  }
+
+  @Test
+  void shouldParseDateTime()
+  {
+    assertEquals(new GregorianCalendar(2022, APRIL, 24, 18, 46).getTime(), DateParser.parse("2022-04-24T18:46"));
+    assertEquals(new GregorianCalendar(2022, APRIL, 24, 8, 6).getTime(), DateParser.parse("2022-04-24T8:6"));
+    assertEquals(new GregorianCalendar(2022, APRIL, 24, 18, 46, 12).getTime(), DateParser.parse("2022-04-24T18:46:12"));
+    assertEquals(date(2022, APRIL, 24, 18, 46, 12, 123), DateParser.parse("2022-04-24T18:46:12.123"));
+  }
+
+  @Test
+  void shouldParseFractionAsMilliseconds()
+  {
+    assertEquals(date(2022, APRIL, 24, 18, 46, 12, 5), DateParser.parse("2022-04-24T18:46:12.5"));
+    assertEquals(date(2022, APRIL, 24, 18, 46, 12, 17), DateParser.parse("2022-04-24T18:46:12.17"));
+  }
+
+  @Test
+  void shouldNotParseInvalid()
+  {
+    assertThrows(QueryParseException.class, () -> DateParser.parse(""));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("X"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("22-04-24"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-13-24"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-02-30"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24X"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T18"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T18:46:XX"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T18:46:12."));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T18:46:12.1234"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T25:46"));
+    assertThrows(QueryParseException.class, () -> DateParser.parse("2022-04-24T18:460"));
+  }
+
+  @Test
+  void shouldParseConcurrently() throws Exception
+  {
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try
+    {
+      List<Callable<Date>> tasks = new ArrayList<>();
+      for (int i = 0; i < 1000; i++)
+      {
+        String s = String.format("2022-04-%02dT%02d:%02d:%02d", i % 28 + 1, i % 24, i % 60, i % 60);
+        Date expected = new GregorianCalendar(2022, APRIL, i % 28 + 1, i % 24, i % 60, i % 60).getTime();
+
+        tasks.add(
+          () -> {
+            Date actual = DateParser.parse(s);
+            assertEquals(expected, actual);
+            return actual;
+          }
+        );
+      }
+
+      for (Future<Date> future : executorService.invokeAll(tasks)) future.get();
+    }
+    finally
+    {
+      executorService.shutdown();
+    }
+  }
+
+  private Date date(int year, int month, int day, int hour, int minute, int second, int millisecond)
+  {
+    Calendar calendar = new GregorianCalendar(year, month, day, hour, minute, second);
+    calendar.set(MILLISECOND, millisecond);
+
+    return calendar.getTime();
+  }
+}
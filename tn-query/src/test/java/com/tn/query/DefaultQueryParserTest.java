@@ -3,7 +3,10 @@ package com.tn.query;
 import static java.lang.String.format;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -12,6 +15,9 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.tn.query.node.NodeVisitor;
+import com.tn.query.node.NotEqual;
+
 class DefaultQueryParserTest
 {
   private static final String LEFT = "A";
@@ -169,6 +175,34 @@ class DefaultQueryParserTest
     assertEquals(PREDICATE, queryParser.parse("A = B || C = D"));
   }
 
+  @Test
+  void shouldParseConjunction()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.equal("A", "B")).thenReturn("X");
+    when(predicateFactory.equal("C", "D")).thenReturn("Y");
+    when(predicateFactory.equal("E", "F")).thenReturn("Z");
+    when(predicateFactory.and(List.of("X", "Y", "Z"))).thenReturn(PREDICATE);
+
+    QueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory);
+    assertEquals(PREDICATE, queryParser.parse("A = B && C = D && E = F"));
+  }
+
+  @Test
+  void shouldParseDisjunction()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.equal("A", "B")).thenReturn("X");
+    when(predicateFactory.equal("C", "D")).thenReturn("Y");
+    when(predicateFactory.equal("E", "F")).thenReturn("Z");
+    when(predicateFactory.or(List.of("X", "Y", "Z"))).thenReturn(PREDICATE);
+
+    QueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory);
+    assertEquals(PREDICATE, queryParser.parse("A = B || C = D || E = F"));
+  }
+
   @Test
   void shouldParseParenthesis()
   {
@@ -181,6 +215,127 @@ class DefaultQueryParserTest
     assertEquals(PREDICATE, queryParser.parse("(A = B)"));
   }
 
+  @Test
+  void shouldCacheNodes()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.equal(LEFT, RIGHT)).thenReturn(PREDICATE);
+
+    DefaultQueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory).withCache(10);
+
+    assertEquals(PREDICATE, queryParser.parse("A = B"));
+    assertEquals(PREDICATE, queryParser.parse("A = B"));
+
+    verify(predicateFactory, times(2)).equal(LEFT, RIGHT);
+    assertEquals(1, queryParser.cache().orElseThrow().hits());
+    assertEquals(1, queryParser.cache().orElseThrow().misses());
+  }
+
+  @Test
+  void shouldCacheReusablePredicates()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.isReusable()).thenReturn(true);
+    when(predicateFactory.equal(LEFT, RIGHT)).thenReturn(PREDICATE);
+
+    DefaultQueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory).withCache(10);
+
+    assertEquals(PREDICATE, queryParser.parse("A = B"));
+    assertEquals(PREDICATE, queryParser.parse("A = B"));
+
+    verify(predicateFactory, times(1)).equal(LEFT, RIGHT);
+    assertEquals(1, queryParser.cache().orElseThrow().hits());
+  }
+
+  @Test
+  void shouldOptimize()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.in(LEFT, List.of("B", "C"))).thenReturn(PREDICATE);
+
+    QueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory).withOptimizer();
+    assertEquals(PREDICATE, queryParser.parse("(A = B || A = C || A = B)"));
+  }
+
+  @Test
+  void shouldParseUnsatisfiable()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.constant(false)).thenReturn(PREDICATE);
+
+    QueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory, List.of(Mapper.toInt(LEFT))).withOptimizer();
+    assertEquals(PREDICATE, queryParser.parse("A < 3 && A > 10"));
+  }
+
+  @Test
+  void shouldPlan()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.like("A", "*B*")).thenReturn("X");
+    when(predicateFactory.equal("C", "D")).thenReturn("Y");
+    when(predicateFactory.and("Y", "X")).thenReturn(PREDICATE);
+
+    DefaultQueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory).withPlanner();
+    assertEquals(PREDICATE, queryParser.parse("A ≈ *B* && C = D"));
+  }
+
+  @Test
+  void shouldExplain()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+
+    assertEquals(
+      "AND (cost: 20.25, selectivity: 0.025)\n  A ≈ *B* (cost: 20.00, selectivity: 0.250)\n  C = D (cost: 1.00, selectivity: 0.100)",
+      new DefaultQueryParser<>(predicateFactory).explain("A ≈ *B* && C = D")
+    );
+    assertEquals(
+      "AND (cost: 3.00, selectivity: 0.025)\n  C = D (cost: 1.00, selectivity: 0.100)\n  A ≈ *B* (cost: 20.00, selectivity: 0.250)",
+      new DefaultQueryParser<>(predicateFactory).withPlanner().explain("A ≈ *B* && C = D")
+    );
+  }
+
+  @Test
+  void shouldNotCacheByDefault()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+
+    assertTrue(new DefaultQueryParser<>(predicateFactory).cache().isEmpty());
+  }
+
+  @Test
+  void shouldOverridePredicateBuilder()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.equal(LEFT, RIGHT)).thenReturn(PREDICATE);
+    when(predicateFactory.and(PREDICATE, PREDICATE)).thenReturn(PREDICATE + " && " + PREDICATE);
+
+    QueryParser<String> queryParser = new DefaultQueryParser<>(predicateFactory)
+    {
+      @Override
+      protected NodeVisitor<String> predicateBuilder(List<?> values)
+      {
+        return new PredicateBuilder(values)
+        {
+          @Override
+          public String visit(NotEqual node)
+          {
+            return this.predicateFactory.equal(name(node), value(node));
+          }
+        };
+      }
+    };
+
+    assertEquals(PREDICATE + " && " + PREDICATE, queryParser.parse(format("%s != %s && %s = %s", LEFT, RIGHT, LEFT, RIGHT)));
+  }
+
   private void shouldParse(String logicalOperation, Function<PredicateFactory<String>, BiFunction<String, String, String>> factoryExpectationSetter)
   {
     @SuppressWarnings("unchecked")
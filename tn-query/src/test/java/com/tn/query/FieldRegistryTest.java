@@ -0,0 +1,107 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FieldRegistryTest
+{
+  @Test
+  void shouldDescribeFields()
+  {
+    List<FieldDescriptor> fields = FieldRegistry.fields(Subject.class);
+
+    assertEquals(List.of("count", "name", "other"), fields.stream().map(FieldDescriptor::name).toList());
+    assertEquals(List.of(int.class, String.class, Object.class), fields.stream().map(FieldDescriptor::type).toList());
+    assertEquals(Mapper.toInt("count"), fields.get(0).mapper());
+    assertEquals(Mapper.toString("name"), fields.get(1).mapper());
+    assertNull(fields.get(2).mapper());
+  }
+
+  @Test
+  void shouldGetMappers()
+  {
+    assertEquals(List.of(Mapper.toInt("count"), Mapper.toString("name")), FieldRegistry.mappers(Subject.class));
+  }
+
+  @Test
+  void shouldCacheMetadata()
+  {
+    FieldRegistry.precompute(Subject.class);
+
+    assertSame(FieldRegistry.fields(Subject.class), FieldRegistry.fields(Subject.class));
+    assertSame(FieldRegistry.mappers(Subject.class), FieldRegistry.mappers(Subject.class));
+  }
+
+  @Test
+  void shouldGetFieldValue()
+  {
+    Subject subject = new Subject(3, "Test");
+    List<FieldDescriptor> fields = FieldRegistry.fields(Subject.class);
+
+    assertTrue(fields.get(0).isReadable());
+    assertEquals(3, fields.get(0).get(subject));
+    assertEquals("Test", fields.get(1).get(subject));
+    assertNull(fields.get(2).get(subject));
+  }
+
+  @Test
+  void shouldNotGetFieldValueFromWrongType()
+  {
+    assertThrows(ClassCastException.class, () -> FieldRegistry.fields(Subject.class).get(0).get("Test"));
+  }
+
+  @Test
+  void shouldDescribeInheritedFields()
+  {
+    List<FieldDescriptor> fields = FieldRegistry.fields(Child.class);
+
+    assertEquals(List.of("name", "age", "count", "other"), fields.stream().map(FieldDescriptor::name).toList());
+    assertEquals(List.of(Mapper.toLong("name"), Mapper.toInt("age"), Mapper.toInt("count")), FieldRegistry.mappers(Child.class));
+    assertEquals(3, fields.get(2).get(new Child(3, "Test", 4)));
+  }
+
+  @Test
+  void shouldDescribeEmptyClass()
+  {
+    assertTrue(FieldRegistry.fields(Object.class).isEmpty());
+    assertTrue(FieldRegistry.mappers(Object.class).isEmpty());
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Subject
+  {
+    private final long name;
+    private final int age;
+
+    Child(int count, String name, int age)
+    {
+      super(count, name);
+      this.name = age * 10L;
+      this.age = age;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class Subject
+  {
+    private static final String CONSTANT = "constant";
+    private static int instances;
+
+    private final int count;
+    private final String name;
+    private Object other;
+
+    Subject(int count, String name)
+    {
+      this.count = count;
+      this.name = name;
+    }
+  }
+}
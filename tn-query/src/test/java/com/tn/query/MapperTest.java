@@ -73,6 +73,43 @@ class MapperTest
   void shouldMapToEnumWithInvalidValue()
   {
     assertThrows(QueryException.class, () -> Mapper.toEnum("test", Result.class).map("UNKNOWN"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Result.class).map("success"));
+  }
+
+  @Test
+  void shouldMapToEnumByToString()
+  {
+    assertEquals(Colour.LIGHT_BLUE, Mapper.toEnum("test", Colour.class).map("light blue"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class).map("LIGHT_BLUE"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class).map("Light Blue"));
+
+    assertEquals(Colour.LIGHT_BLUE, Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.TO_STRING_IGNORE_CASE).map("Light Blue"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.TO_STRING_IGNORE_CASE).map("LIGHT_BLUE"));
+  }
+
+  @Test
+  void shouldMapToEnumByName()
+  {
+    assertEquals(Colour.LIGHT_BLUE, Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME).map("LIGHT_BLUE"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME).map("light blue"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME).map("light_blue"));
+
+    assertEquals(Colour.LIGHT_BLUE, Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME_IGNORE_CASE).map("light_blue"));
+  }
+
+  @Test
+  void shouldMapToFirstEnumWithSameKey()
+  {
+    assertEquals(Colour.DARK_BLUE, Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.TO_STRING_IGNORE_CASE).map("DARK BLUE"));
+    assertEquals(Colour.NAVY, Mapper.toEnum("test", Colour.class).map("Dark Blue"));
+  }
+
+  @Test
+  void shouldMapToEnumWithNullToString()
+  {
+    assertEquals(Colour.NONE, Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME).map("NONE"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class).map("null"));
+    assertThrows(QueryException.class, () -> Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.TO_STRING_IGNORE_CASE).map(null));
   }
 
   @Test
@@ -136,6 +173,8 @@ class MapperTest
       .addEqualityGroup(Mapper.toString("test"), Mapper.toString("test"))
       .addEqualityGroup(Mapper.toString("X"))
       .addEqualityGroup(Mapper.toInt("test"))
+      .addEqualityGroup(Mapper.toEnum("test", Colour.class), Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.TO_STRING))
+      .addEqualityGroup(Mapper.toEnum("test", Colour.class, Mapper.EnumMatch.NAME))
       .testEquals();
   }
 
@@ -153,4 +192,25 @@ class MapperTest
     SUCCESS,
     FAILURE
   }
+
+  private enum Colour
+  {
+    DARK_BLUE("dark blue"),
+    LIGHT_BLUE("light blue"),
+    NAVY("Dark Blue"),
+    NONE(null);
+
+    private final String description;
+
+    Colour(String description)
+    {
+      this.description = description;
+    }
+
+    @Override
+    public String toString()
+    {
+      return this.description;
+    }
+  }
 }
@@ -0,0 +1,98 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class QueryCacheTest
+{
+  @Test
+  void shouldLoadOnceAndCountHits()
+  {
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Object> loader = key -> loads.incrementAndGet();
+
+    QueryCache<Object> cache = new QueryCache<>(10);
+
+    Object value = cache.get("a = b", loader);
+
+    assertSame(value, cache.get("a = b", loader));
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.hits());
+    assertEquals(1, cache.misses());
+    assertEquals(0, cache.evictions());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsed()
+  {
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Object> loader = key -> loads.incrementAndGet();
+
+    QueryCache<Object> cache = new QueryCache<>(2);
+
+    cache.get("a", loader);
+    cache.get("b", loader);
+    cache.get("a", loader);
+    cache.get("c", loader);
+
+    assertEquals(1, cache.evictions());
+    assertEquals(2, cache.size());
+
+    cache.get("a", loader);
+    assertEquals(3, loads.get());
+
+    cache.get("b", loader);
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  void shouldEvictByWeight()
+  {
+    QueryCache<String> cache = new QueryCache<>(10, String::length);
+
+    cache.get("aaaa", Function.identity());
+    cache.get("bbbb", Function.identity());
+    cache.get("cccc", Function.identity());
+
+    assertEquals(1, cache.evictions());
+    assertEquals(8, cache.weight());
+
+    cache.get("this key is too heavy to cache", Function.identity());
+
+    assertEquals(8, cache.weight());
+    assertEquals(1, cache.evictions());
+  }
+
+  @Test
+  void shouldNotCacheFailures()
+  {
+    QueryCache<Object> cache = new QueryCache<>(10);
+
+    assertThrows(QueryParseException.class, () -> cache.get("invalid", Query::parse));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void shouldClear()
+  {
+    QueryCache<String> cache = new QueryCache<>(10);
+    cache.get("a", Function.identity());
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.weight());
+  }
+
+  @Test
+  void shouldThrowWithInvalidMaximumWeight()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new QueryCache<>(0));
+  }
+}
@@ -0,0 +1,109 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.QueryLexer.Token;
+import com.tn.query.QueryLexer.Type;
+
+class QueryLexerTest
+{
+  @Test
+  void shouldTokenizeComparison()
+  {
+    assertEquals(
+      List.of(
+        new Token(Type.IDENTIFIER, "left", null),
+        new Token(Type.OPERATOR, ">=", ComparisonOperator.GREATER_THAN_OR_EQUAL),
+        new Token(Type.LITERAL, "right value", null)
+      ),
+      tokenize("  left >=   right value  ")
+    );
+  }
+
+  @Test
+  void shouldTokenizeList()
+  {
+    assertEquals(
+      List.of(
+        new Token(Type.IDENTIFIER, "left", null),
+        new Token(Type.OPERATOR, "∈", ComparisonOperator.IN),
+        new Token(Type.LIST, "[A, B, C]", null)
+      ),
+      tokenize("left ∈ [A, B, C]")
+    );
+  }
+
+  @Test
+  void shouldTokenizeQuotedLiteral()
+  {
+    assertEquals(
+      List.of(
+        new Token(Type.IDENTIFIER, "left", null),
+        new Token(Type.OPERATOR, "=", ComparisonOperator.EQUAL),
+        new Token(Type.LITERAL, "'a && (b) || c != d'", null)
+      ),
+      tokenize("left = 'a && (b) || c != d'")
+    );
+  }
+
+  @Test
+  void shouldTokenizeLogicalOperatorsAndParenthesis()
+  {
+    assertEquals(
+      List.of(
+        new Token(Type.PARENTHESIS_OPEN, "(", null),
+        new Token(Type.IDENTIFIER, "a", null),
+        new Token(Type.OPERATOR, "!=", ComparisonOperator.NOT_EQUAL),
+        new Token(Type.LITERAL, "b", null),
+        new Token(Type.OR, "||", null),
+        new Token(Type.IDENTIFIER, "c", null),
+        new Token(Type.OPERATOR, "!≈", ComparisonOperator.NOT_LIKE),
+        new Token(Type.LITERAL, "d*", null),
+        new Token(Type.PARENTHESIS_CLOSE, ")", null),
+        new Token(Type.AND, "&&", null),
+        new Token(Type.IDENTIFIER, "e", null),
+        new Token(Type.OPERATOR, "<", ComparisonOperator.LESS_THAN),
+        new Token(Type.LITERAL, "2022-04-24T18:46:12", null)
+      ),
+      tokenize("(a!=b||c !≈ d*) && e < 2022-04-24T18:46:12")
+    );
+  }
+
+  @Test
+  void shouldPeek()
+  {
+    QueryLexer lexer = new QueryLexer("a = b");
+
+    assertEquals(new Token(Type.IDENTIFIER, "a", null), lexer.peek());
+    assertEquals(new Token(Type.IDENTIFIER, "a", null), lexer.next());
+    assertEquals(new Token(Type.OPERATOR, "=", ComparisonOperator.EQUAL), lexer.next());
+    assertEquals(new Token(Type.LITERAL, "b", null), lexer.next());
+    assertNull(lexer.peek());
+    assertNull(lexer.next());
+  }
+
+  @Test
+  void shouldThrowWhenUnterminated()
+  {
+    assertThrows(QueryParseException.class, () -> tokenize("left ∈ [A, B"));
+    assertThrows(QueryParseException.class, () -> tokenize("left = 'A"));
+  }
+
+  private List<Token> tokenize(String s)
+  {
+    QueryLexer lexer = new QueryLexer(s);
+    List<Token> tokens = new ArrayList<>();
+
+    Token token;
+    while ((token = lexer.next()) != null) tokens.add(token);
+
+    return tokens;
+  }
+}
@@ -0,0 +1,185 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static com.tn.query.Query.parse;
+import static com.tn.query.Query.parseTemplate;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.node.And;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Constant;
+import com.tn.query.node.Equal;
+import com.tn.query.node.GreaterThan;
+import com.tn.query.node.GreaterThanOrEqual;
+import com.tn.query.node.In;
+import com.tn.query.node.LessThan;
+import com.tn.query.node.LessThanOrEqual;
+import com.tn.query.node.Or;
+import com.tn.query.node.Parenthesis;
+import com.tn.query.node.Placeholder;
+
+class QueryOptimizerTest
+{
+  private final QueryOptimizer queryOptimizer = new QueryOptimizer(List.of(Mapper.toInt("x"), Mapper.toInt("y")));
+
+  @Test
+  void shouldMergeLowerBoundsInAnd()
+  {
+    assertEquals(new GreaterThan("x", "5"), optimize("x > 1 && x > 5"));
+    assertEquals(new GreaterThan("x", "10"), optimize("x > 10 && x >= 9"));
+    assertEquals(new GreaterThan("x", "5"), optimize("x >= 5 && x > 5"));
+  }
+
+  @Test
+  void shouldMergeUpperBoundsInAnd()
+  {
+    assertEquals(new LessThan("x", "1"), optimize("x < 1 && x < 5"));
+    assertEquals(new LessThan("x", "5"), optimize("x <= 5 && x < 5"));
+  }
+
+  @Test
+  void shouldMergeBoundsInOr()
+  {
+    assertEquals(new GreaterThan("x", "1"), optimize("x > 1 || x > 5"));
+    assertEquals(new LessThanOrEqual("x", "5"), optimize("x <= 5 || x < 5"));
+  }
+
+  @Test
+  void shouldMergeUsingMappedValues()
+  {
+    assertEquals(new GreaterThan("x", "10"), optimize("x > 9 && x > 10"));
+  }
+
+  @Test
+  void shouldKeepBothBoundsOfARange()
+  {
+    assertEquals(
+      new And(new GreaterThan("x", "5"), new LessThan("x", "10")),
+      optimize("x > 1 && x < 10 && x > 5")
+    );
+  }
+
+  @Test
+  void shouldNotMergeWithoutMapper()
+  {
+    assertEquals(
+      new And(new GreaterThan("z", "9"), new GreaterThan("z", "10")),
+      optimize("z > 9 && z > 10")
+    );
+  }
+
+  @Test
+  void shouldNotMergeInvalidValues()
+  {
+    assertEquals(
+      new And(new GreaterThan("x", "9"), new GreaterThan("x", "X")),
+      optimize("x > 9 && x > X")
+    );
+  }
+
+  @Test
+  void shouldFoldEqualsIntoIn()
+  {
+    assertEquals(new In("a", List.of("1", "2", "3")), optimize("a = 1 || a = 2 || a = 3"));
+    assertEquals(new Or(new In("a", List.of("1", "2")), new Equal("b", "3")), optimize("a = 1 || b = 3 || a = 2"));
+    assertEquals(new In("a", List.of("1", "2", "3")), optimize("(a = 1 || a = 2) || a = 3"));
+  }
+
+  @Test
+  void shouldNotFoldEqualsInAnd()
+  {
+    assertEquals(new And(new Equal("a", "1"), new Equal("a", "2")), optimize("a = 1 && a = 2"));
+  }
+
+  @Test
+  void shouldRemoveDuplicates()
+  {
+    assertEquals(new Equal("a", "1"), optimize("a = 1 && a = 1"));
+    assertEquals(
+      new And(new Equal("a", "1"), new Parenthesis(new Or(new Equal("b", "2"), new Equal("c", "3")))),
+      optimize("a = 1 && (b = 2 || c = 3) && a = 1 && (b = 2 || c = 3)")
+    );
+  }
+
+  @Test
+  void shouldRemoveRedundantParenthesis()
+  {
+    assertEquals(new Equal("a", "1"), optimize("((a = 1))"));
+    assertEquals(new Or(new Equal("a", "1"), new Equal("b", "2")), optimize("(a = 1 || b = 2)"));
+    assertEquals(
+      new Conjunction(List.of(new Equal("a", "1"), new Equal("b", "2"), new Equal("c", "3"))),
+      optimize("a = 1 && (b = 2 && (c = 3))")
+    );
+  }
+
+  @Test
+  void shouldKeepRequiredParenthesis()
+  {
+    assertEquals(
+      new And(new Equal("a", "1"), new Parenthesis(new Or(new Equal("b", "2"), new Equal("c", "3")))),
+      optimize("a = 1 && (b = 2 || c = 3)")
+    );
+  }
+
+  @Test
+  void shouldDetectUnsatisfiable()
+  {
+    assertEquals(Constant.FALSE, optimize("x = 1 && x = 2"));
+    assertEquals(Constant.FALSE, optimize("x < 3 && x > 10"));
+    assertEquals(Constant.FALSE, optimize("x > 5 && x <= 5"));
+    assertEquals(Constant.FALSE, optimize("x = 4 && x > 5"));
+    assertEquals(Constant.FALSE, optimize("x = 4 && x != 4"));
+    assertEquals(Constant.FALSE, optimize("y = 1 && (x >= 5 && x < 5)"));
+  }
+
+  @Test
+  void shouldNotDetectSatisfiable()
+  {
+    assertEquals(new And(new Equal("x", "1"), new Equal("x", "01")), optimize("x = 1 && x = 01"));
+    assertEquals(new And(new GreaterThanOrEqual("x", "5"), new LessThanOrEqual("x", "5")), optimize("x >= 5 && x <= 5"));
+    assertEquals(new And(new Equal("x", "1"), new Equal("y", "2")), optimize("x = 1 && y = 2"));
+    assertEquals(new Or(new Equal("x", "1"), new Equal("y", "2")), optimize("x = 1 || y = 2"));
+  }
+
+  @Test
+  void shouldNotDetectUnsatisfiableWithoutMapper()
+  {
+    assertEquals(new And(new Equal("z", "1"), new Equal("z", "2")), optimize("z = 1 && z = 2"));
+  }
+
+  @Test
+  void shouldNotDetectUnsatisfiableForStrings()
+  {
+    QueryOptimizer queryOptimizer = new QueryOptimizer(List.of(Mapper.toString("s")));
+
+    assertEquals(new And(new Equal("s", "a"), new Equal("s", "A")), queryOptimizer.optimize(parse("s = a && s = A")));
+    assertEquals(new And(new GreaterThan("s", "a"), new GreaterThan("s", "b")), queryOptimizer.optimize(parse("s > a && s > b")));
+  }
+
+  @Test
+  void shouldPropagateConstants()
+  {
+    assertEquals(new Equal("y", "1"), optimize("(x = 1 && x = 2) || y = 1"));
+    assertEquals(Constant.FALSE, optimize("(x = 1 && x = 2) || (x > 3 && x < 2)"));
+    assertEquals(Constant.FALSE, optimize("((x = 1 && x = 2) || x < 0) && x > 10"));
+    assertEquals(Constant.FALSE, optimize("y = 1 && (x = 1 && x = 2 || x > 1 && x < 0)"));
+  }
+
+  @Test
+  void shouldNotMergePlaceholders()
+  {
+    assertEquals(
+      new And(new GreaterThan("x", new Placeholder(0)), new GreaterThanOrEqual("x", new Placeholder(1))),
+      this.queryOptimizer.optimize(parseTemplate("x > ? && x >= ?"))
+    );
+  }
+
+  private Object optimize(String query)
+  {
+    return this.queryOptimizer.optimize(parse(query));
+  }
+}
@@ -0,0 +1,116 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static com.tn.query.Query.parse;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tn.query.node.And;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Equal;
+import com.tn.query.node.GreaterThan;
+import com.tn.query.node.In;
+import com.tn.query.node.Like;
+import com.tn.query.node.NotEqual;
+import com.tn.query.node.Or;
+import com.tn.query.node.Parenthesis;
+
+class QueryPlannerTest
+{
+  private final QueryPlanner queryPlanner = new QueryPlanner();
+
+  @Test
+  void shouldRunCheapTestsFirstInAnd()
+  {
+    assertEquals(new And(new Equal("id", "5"), new Like("name", "*x*")), this.queryPlanner.plan(parse("name ≈ *x* && id = 5")));
+  }
+
+  @Test
+  void shouldRunLikelyTestsFirstInOr()
+  {
+    assertEquals(new Or(new NotEqual("a", "1"), new Equal("b", "2")), this.queryPlanner.plan(parse("b = 2 || a != 1")));
+  }
+
+  @Test
+  void shouldCostInBySize()
+  {
+    assertEquals(new And(new Equal("b", "1"), new In("a", "[1, 2, 3, 4, 5]")), this.queryPlanner.plan(parse("a ∈ [1, 2, 3, 4, 5] && b = 1")));
+  }
+
+  @Test
+  void shouldUseDistinctValues()
+  {
+    assertEquals(new And(new Equal("status", "A"), new GreaterThan("id", "5")), this.queryPlanner.plan(parse("id > 5 && status = A")));
+
+    QueryPlanner queryPlanner = new QueryPlanner().withDistinctValues("status", 2);
+    assertEquals(new And(new GreaterThan("id", "5"), new Equal("status", "A")), queryPlanner.plan(parse("id > 5 && status = A")));
+  }
+
+  @Test
+  void shouldKeepOrderOfEqualRanks()
+  {
+    assertEquals(
+      new Conjunction(List.of(new Equal("a", "1"), new Equal("b", "2"), new Equal("c", "3"))),
+      this.queryPlanner.plan(parse("a = 1 && b = 2 && c = 3"))
+    );
+  }
+
+  @Test
+  void shouldNotRunOperandsThatCanThrowBeforeTheirGuards()
+  {
+    assertEquals(new And(new NotEqual("x", "null"), new GreaterThan("x", "5")), this.queryPlanner.plan(parse("x != null && x > 5")));
+    assertEquals(new Or(new Equal("x", "null"), new Like("x", "a*")), this.queryPlanner.plan(parse("x = null || x ≈ a*")));
+    assertEquals(
+      new Conjunction(List.of(new Equal("id", "5"), new NotEqual("x", "null"), new Parenthesis(new Or(new GreaterThan("x", "5"), new Equal("y", "1"))))),
+      this.queryPlanner.plan(parse("x != null && (x > 5 || y = 1) && id = 5"))
+    );
+    assertEquals(
+      new Conjunction(List.of(new Equal("c", "1"), new Equal("d", "2"), new GreaterThan("a", "1"), new Like("b", "*x*"))),
+      this.queryPlanner.plan(parse("a > 1 && b ≈ *x* && c = 1 && d = 2"))
+    );
+  }
+
+  @Test
+  void shouldPlanWithinParenthesis()
+  {
+    assertEquals(
+      new And(new Equal("id", "5"), new Parenthesis(new Or(new NotEqual("a", "1"), new Like("name", "*x*")))),
+      this.queryPlanner.plan(parse("(name ≈ *x* || a != 1) && id = 5"))
+    );
+  }
+
+  @Test
+  void shouldExplain()
+  {
+    assertEquals(
+      "AND (cost: 20.29, selectivity: 0.010)\n" +
+      "  name ≈ *x* (cost: 20.00, selectivity: 0.250)\n" +
+      "  id = 5 (cost: 1.00, selectivity: 0.100)\n" +
+      "  OR (cost: 1.67, selectivity: 0.400)\n" +
+      "    a > 1 (cost: 1.00, selectivity: 0.333)\n" +
+      "    b = 2 (cost: 1.00, selectivity: 0.100)",
+      this.queryPlanner.explain(parse("name ≈ *x* && id = 5 && (a > 1 || b = 2)"))
+    );
+  }
+
+  @Test
+  void shouldExplainPlan()
+  {
+    assertEquals(
+      "AND (cost: 3.00, selectivity: 0.025)\n" +
+      "  id = 5 (cost: 1.00, selectivity: 0.100)\n" +
+      "  name ≈ *x* (cost: 20.00, selectivity: 0.250)",
+      this.queryPlanner.explain(this.queryPlanner.plan(parse("name ≈ *x* && id = 5")))
+    );
+  }
+
+  @Test
+  void shouldNotAllowInvalidDistinctValues()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new QueryPlanner().withDistinctValues("a", 0));
+  }
+}
@@ -0,0 +1,60 @@
+package com.tn.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class QueryTemplateTest
+{
+  private static final String PREDICATE = "predicate";
+
+  @Test
+  void shouldBind()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.greaterThan("age", 18)).thenReturn("X");
+    when(predicateFactory.greaterThan("age", 21)).thenReturn("Y");
+    when(predicateFactory.in("status", List.of("ACTIVE", "PENDING"))).thenReturn("Z");
+    when(predicateFactory.and("X", "Z")).thenReturn(PREDICATE);
+    when(predicateFactory.and("Y", "Z")).thenReturn(PREDICATE + 2);
+
+    QueryTemplate<String> queryTemplate = new DefaultQueryParser<>(predicateFactory, List.of(Mapper.toInt("age"))).template("age > ? && status ∈ ?");
+
+    assertEquals(2, queryTemplate.getPlaceholders());
+    assertEquals(PREDICATE, queryTemplate.bind("18", List.of("ACTIVE", "PENDING")));
+    assertEquals(PREDICATE + 2, queryTemplate.bind(21, "[ACTIVE, PENDING]"));
+  }
+
+  @Test
+  void shouldBindWithinParenthesis()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+    when(predicateFactory.equal("a", "b")).thenReturn("X");
+    when(predicateFactory.equal("c", "d")).thenReturn("Y");
+    when(predicateFactory.parenthesis("Y")).thenReturn("Z");
+    when(predicateFactory.or("X", "Z")).thenReturn(PREDICATE);
+
+    QueryTemplate<String> queryTemplate = new DefaultQueryParser<>(predicateFactory).template("a = ? || (c = ?)");
+
+    assertEquals(PREDICATE, queryTemplate.bind("b", "d"));
+  }
+
+  @Test
+  void shouldThrowWhenValueCountDiffers()
+  {
+    @SuppressWarnings("unchecked")
+    PredicateFactory<String> predicateFactory = mock(PredicateFactory.class);
+
+    QueryTemplate<String> queryTemplate = new DefaultQueryParser<>(predicateFactory).template("a = ? && b = ?");
+
+    assertThrows(QueryException.class, () -> queryTemplate.bind("x"));
+    assertThrows(QueryException.class, () -> queryTemplate.bind("x", "y", "z"));
+  }
+}
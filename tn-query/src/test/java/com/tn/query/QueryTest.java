@@ -4,16 +4,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static com.tn.query.Query.parse;
+import static com.tn.query.Query.parseTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.tn.query.node.And;
+import com.tn.query.node.Conjunction;
+import com.tn.query.node.Disjunction;
 import com.tn.query.node.Equal;
 import com.tn.query.node.GreaterThan;
+import com.tn.query.node.In;
 import com.tn.query.node.LessThanOrEqual;
+import com.tn.query.node.Node;
 import com.tn.query.node.NotEqual;
 import com.tn.query.node.Or;
 import com.tn.query.node.Parenthesis;
+import com.tn.query.node.Placeholder;
 
 class QueryTest
 {
@@ -78,6 +87,80 @@ class QueryTest
     );
   }
 
+  @Test
+  void shouldParseList()
+  {
+    assertEquals(
+      new And(
+        new In("a", "[1, 2, 3]"),
+        new Equal("b", "c")
+      ),
+      parse("a ∈ [1, 2, 3] && b = c")
+    );
+  }
+
+  @Test
+  void shouldParseQuoted()
+  {
+    assertEquals(
+      new Or(
+        new Equal("a", "'b && (c)'"),
+        new Equal("d", "\"e || f\"")
+      ),
+      parse("a = 'b && (c)' || d = \"e || f\"")
+    );
+  }
+
+  @Test
+  void shouldParseRepeatedLogicalOperatorsAsGroups()
+  {
+    assertEquals(
+      new Or(
+        new Conjunction(
+          List.of(
+            new Equal("a", "b"),
+            new NotEqual("c", "d"),
+            new GreaterThan("e", "f")
+          )
+        ),
+        new LessThanOrEqual("g", "h")
+      ),
+      parse("a = b && c != d && e > f || g <= h")
+    );
+  }
+
+  @Test
+  void shouldParseManyLogicalOperators()
+  {
+    StringBuilder query = new StringBuilder("a = 0");
+    List<Node> expected = new ArrayList<>(List.of(new Equal("a", "0")));
+
+    for (int i = 1; i < 5000; i++)
+    {
+      query.append(" || a = ").append(i);
+      expected.add(new Equal("a", String.valueOf(i)));
+    }
+
+    assertEquals(new Disjunction(expected), parse(query.toString()));
+  }
+
+  @Test
+  void shouldParseTemplate()
+  {
+    assertEquals(
+      new And(
+        new GreaterThan("a", new Placeholder(0)),
+        new Parenthesis(
+          new Or(
+            new In("b", new Placeholder(1)),
+            new Equal("c", "d")
+          )
+        )
+      ),
+      parseTemplate("a > ? && (b ∈ ? || c = d)")
+    );
+  }
+
   @Test
   void shouldThrowWhenParsingEmpty()
   {
@@ -90,6 +173,8 @@ class QueryTest
   {
     assertThrows(QueryParseException.class, () -> parse("INVALID"));
     assertThrows(QueryParseException.class, () -> parse("a = b c = d"));
+    assertThrows(QueryParseException.class, () -> parse("a = b = c"));
+    assertThrows(QueryParseException.class, () -> parse("(a = b) c = d"));
   }
 
   @Test
@@ -99,6 +184,7 @@ class QueryTest
     assertThrows(QueryParseException.class, () -> parse("a && a = b"));
     assertThrows(QueryParseException.class, () -> parse("a = b &&"));
     assertThrows(QueryParseException.class, () -> parse("a = b && a"));
+    assertThrows(QueryParseException.class, () -> parse("a = b && && a = b"));
   }
 
   @Test
@@ -115,5 +201,8 @@ class QueryTest
   {
     assertThrows(QueryParseException.class, () -> parse("()"));
     assertThrows(QueryParseException.class, () -> parse("("));
+    assertThrows(QueryParseException.class, () -> parse(")"));
+    assertThrows(QueryParseException.class, () -> parse("(a = b"));
+    assertThrows(QueryParseException.class, () -> parse("a = b)"));
   }
 }
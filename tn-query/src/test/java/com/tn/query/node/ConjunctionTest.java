@@ -0,0 +1,54 @@
+package com.tn.query.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.Test;
+
+class ConjunctionTest
+{
+  @Test
+  void testEquality()
+  {
+    Equal a = new Equal("A", "B");
+    Equal b = new Equal("C", "D");
+    Equal c = new Equal("E", "F");
+
+    new EqualsTester()
+      .addEqualityGroup(new Conjunction(List.of(a, b, c)), new Conjunction(List.of(a, b, c)))
+      .addEqualityGroup(new Conjunction(List.of(c, b, a)))
+      .addEqualityGroup(new Conjunction(List.of(a, b)))
+      .addEqualityGroup(new Disjunction(List.of(a, b, c)))
+      .testEquals();
+  }
+
+  @Test
+  void shouldGetLeftAndRight()
+  {
+    Equal a = new Equal("A", "B");
+    Equal b = new Equal("C", "D");
+    Equal c = new Equal("E", "F");
+
+    assertEquals(a, new Conjunction(List.of(a, b, c)).getLeft());
+    assertEquals(new Conjunction(List.of(b, c)), new Conjunction(List.of(a, b, c)).getRight());
+    assertEquals(b, new Conjunction(List.of(a, b)).getRight());
+  }
+
+  @Test
+  void shouldThrowWithTooFewNodes()
+  {
+    assertThrows(IllegalArgumentException.class, () -> new Conjunction(List.of(new Equal("A", "B"))));
+  }
+
+  @Test
+  void testToString()
+  {
+    assertEquals(
+      "A = B && C = D && E = F",
+      new Conjunction(List.of(new Equal("A", "B"), new Equal("C", "D"), new Equal("E", "F"))).toString()
+    );
+  }
+}
@@ -0,0 +1,26 @@
+package com.tn.query.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ConstantTest
+{
+  @Test
+  void shouldCreateFromValue()
+  {
+    assertEquals(Constant.TRUE, Constant.of(true));
+    assertEquals(Constant.FALSE, Constant.of(false));
+    assertTrue(Constant.TRUE.getValue());
+    assertFalse(Constant.FALSE.getValue());
+  }
+
+  @Test
+  void testToString()
+  {
+    assertEquals("true", Constant.TRUE.toString());
+    assertEquals("false", Constant.FALSE.toString());
+  }
+}
@@ -0,0 +1,34 @@
+package com.tn.query.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import com.google.common.testing.EqualsTester;
+import org.junit.jupiter.api.Test;
+
+class DisjunctionTest
+{
+  @Test
+  void testEquality()
+  {
+    Equal a = new Equal("A", "B");
+    Equal b = new Equal("C", "D");
+    Equal c = new Equal("E", "F");
+
+    new EqualsTester()
+      .addEqualityGroup(new Disjunction(List.of(a, b, c)), new Disjunction(List.of(a, b, c)))
+      .addEqualityGroup(new Disjunction(List.of(c, b, a)))
+      .addEqualityGroup(new Disjunction(List.of(a, b)))
+      .testEquals();
+  }
+
+  @Test
+  void testToString()
+  {
+    assertEquals(
+      "A = B || C = D || E = F",
+      new Disjunction(List.of(new Equal("A", "B"), new Equal("C", "D"), new Equal("E", "F"))).toString()
+    );
+  }
+}
@@ -0,0 +1,151 @@
+package com.tn.query.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class NodeVisitorTest
+{
+  @Test
+  void shouldDispatchToVisit()
+  {
+    Equal equal = new Equal("A", "B");
+    NodeVisitor<String> visitor = new NameVisitor();
+
+    assertEquals("And", new And(equal, equal).accept(visitor));
+    assertEquals("Conjunction", new Conjunction(List.of(equal, equal, equal)).accept(visitor));
+    assertEquals("Constant", Constant.TRUE.accept(visitor));
+    assertEquals("Disjunction", new Disjunction(List.of(equal, equal, equal)).accept(visitor));
+    assertEquals("Equal", equal.accept(visitor));
+    assertEquals("GreaterThan", new GreaterThan("A", "B").accept(visitor));
+    assertEquals("GreaterThanOrEqual", new GreaterThanOrEqual("A", "B").accept(visitor));
+    assertEquals("In", new In("A", "[B]").accept(visitor));
+    assertEquals("LessThan", new LessThan("A", "B").accept(visitor));
+    assertEquals("LessThanOrEqual", new LessThanOrEqual("A", "B").accept(visitor));
+    assertEquals("Like", new Like("A", "B").accept(visitor));
+    assertEquals("NotEqual", new NotEqual("A", "B").accept(visitor));
+    assertEquals("NotLike", new NotLike("A", "B").accept(visitor));
+    assertEquals("Or", new Or(equal, equal).accept(visitor));
+    assertEquals("Parenthesis", new Parenthesis(equal).accept(visitor));
+  }
+
+  @Test
+  void shouldFallBackToVisitNode()
+  {
+    Equal equal = new Equal("A", "B");
+    NodeVisitor<String> visitor = new AbstractNodeVisitor<>()
+    {
+      @Override
+      public String visit(Equal node)
+      {
+        return "Equal";
+      }
+
+      @Override
+      protected String visitNode(Node node)
+      {
+        return node.getClass().getSimpleName() + "?";
+      }
+    };
+
+    assertEquals("Equal", equal.accept(visitor));
+    assertEquals("And?", new And(equal, equal).accept(visitor));
+    assertEquals("Parenthesis?", new Parenthesis(equal).accept(visitor));
+    assertEquals("NotLike?", new NotLike("A", "B").accept(visitor));
+  }
+
+  private static class NameVisitor implements NodeVisitor<String>
+  {
+    @Override
+    public String visit(And node)
+    {
+      return "And";
+    }
+
+    @Override
+    public String visit(Conjunction node)
+    {
+      return "Conjunction";
+    }
+
+    @Override
+    public String visit(Constant node)
+    {
+      return "Constant";
+    }
+
+    @Override
+    public String visit(Disjunction node)
+    {
+      return "Disjunction";
+    }
+
+    @Override
+    public String visit(Equal node)
+    {
+      return "Equal";
+    }
+
+    @Override
+    public String visit(GreaterThan node)
+    {
+      return "GreaterThan";
+    }
+
+    @Override
+    public String visit(GreaterThanOrEqual node)
+    {
+      return "GreaterThanOrEqual";
+    }
+
+    @Override
+    public String visit(In node)
+    {
+      return "In";
+    }
+
+    @Override
+    public String visit(LessThan node)
+    {
+      return "LessThan";
+    }
+
+    @Override
+    public String visit(LessThanOrEqual node)
+    {
+      return "LessThanOrEqual";
+    }
+
+    @Override
+    public String visit(Like node)
+    {
+      return "Like";
+    }
+
+    @Override
+    public String visit(NotEqual node)
+    {
+      return "NotEqual";
+    }
+
+    @Override
+    public String visit(NotLike node)
+    {
+      return "NotLike";
+    }
+
+    @Override
+    public String visit(Or node)
+    {
+      return "Or";
+    }
+
+    @Override
+    public String visit(Parenthesis node)
+    {
+      return "Parenthesis";
+    }
+  }
+}